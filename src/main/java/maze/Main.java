@@ -1,13 +1,75 @@
 package maze;
 
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
 import lombok.experimental.UtilityClass;
+import maze.io.BatchOptions;
+import maze.io.BatchRunner;
 import maze.io.InputHandler;
+import maze.service.MazeCache;
+import maze.service.MazeHttpServer;
+import maze.service.MazeService;
 
 @UtilityClass
 public class Main {
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    /**
+     * Без аргументов запускает интерактивный режим, с аргументами - пакетный режим {@link BatchRunner}
+     * или, с параметром {@code --serve}, HTTP-сервер {@link MazeHttpServer}.
+     *
+     * @param args аргументы командной строки
+     * @throws IOException если произошла ошибка ввода-вывода
+     */
     public static void main(String[] args) throws IOException {
-        InputHandler inputHandler = new InputHandler(System.out, System.in);
-        inputHandler.run();
+        PrintStream out = System.out;
+        if (args.length == 0) {
+            InputHandler inputHandler = new InputHandler(out, System.in);
+            inputHandler.run();
+            return;
+        }
+
+        BatchOptions options = new BatchOptions();
+        JCommander commander = JCommander.newBuilder()
+            .programName("maze")
+            .addObject(options)
+            .build();
+        try {
+            commander.parse(args);
+            if (options.help()) {
+                commander.usage();
+                return;
+            }
+            options.validate();
+        } catch (ParameterException e) {
+            out.println(e.getMessage());
+            commander.usage();
+            return;
+        }
+        if (options.serve() != null) {
+            serve(options, out);
+        } else {
+            new BatchRunner(options, out).run();
+        }
+    }
+
+    private static void serve(BatchOptions options, PrintStream out) throws IOException {
+        MazeService service = new MazeService(options.maxJobs(), Duration.ofMillis(options.timeout()))
+            .maxCells(options.maxCells());
+        if (options.mazeCacheMegabytes() > 0) {
+            service.cache(new MazeCache(options.mazeCacheMegabytes() * BYTES_PER_MEGABYTE,
+                options.pathCacheMegabytes() * BYTES_PER_MEGABYTE));
+        }
+        MazeHttpServer server = new MazeHttpServer(new InetSocketAddress(options.bind(), options.serve()), service);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            service.close();
+        }));
+        server.start();
+        out.println("Сервер запущен на " + server.address());
     }
 }
@@ -1,70 +1,193 @@
 package maze.generator;
 
-import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import lombok.Getter;
+import lombok.Setter;
 import maze.model.Cell;
+import maze.model.CellGrid;
 import maze.model.Coordinate;
+import maze.model.Direction;
 import maze.model.Maze;
 
 /**
  * Класс {@code BaseGenerator} служит абстрактным базовым классом для генераторов лабиринтов.
  * Этот класс определяет общие свойства и методы, которые могут использовать все алгоритмы генерации лабиринтов,
  * включая инициализацию сетки, определение типов поверхности и добавление циклов.
+ * Все случайные решения принимаются через {@link RandomGenerator}, созданный из зерна {@link #seed()}
+ * (по умолчанию {@link SplittableRandom}), поэтому одинаковые параметры и зерно дают
+ * побитово одинаковый лабиринт.
  */
 public abstract class BaseGenerator implements MazeGenerationAlgorithm {
     protected static final int MAX_CHANCE = 100;
     protected static final int LOOP_CHANCE = 15;
+    protected static final Direction[] DIRECTIONS = Direction.values();
+    private static final int INTERRUPT_CHECK_MASK = 0xFFF;
+
+    /**
+     * Источник случайных чисел по умолчанию.
+     */
+    public static final LongFunction<RandomGenerator> DEFAULT_RANDOM = SplittableRandom::new;
 
     /**
      * Определяет вероятности различных типов поверхности в лабиринте.
+     * Порядок обхода фиксирован ({@link EnumMap}), чтобы генерация по зерну была воспроизводимой.
      */
-    protected static final Map<Cell.Type, Integer> SURFACE_PROBABILITIES = Map.of(
-        Cell.Type.DESERT, 15,
-        Cell.Type.ROAD, 15,
-        Cell.Type.PASSAGE, 70
+    protected static final Map<Cell.Type, Integer> SURFACE_PROBABILITIES = Collections.unmodifiableMap(
+        new EnumMap<>(Map.of(
+            Cell.Type.DESERT, 15,
+            Cell.Type.ROAD, 15,
+            Cell.Type.PASSAGE, 70
+        ))
     );
 
-    private final SecureRandom secureRandom = new SecureRandom();
+    private final long seed;
+    private final LongFunction<RandomGenerator> randomFactory;
+    private final RandomGenerator random;
+    /**
+     * Распределение типов поверхности проходов (по умолчанию {@link #SURFACE_PROBABILITIES}).
+     */
+    @Getter
+    @Setter
+    private SurfaceSampler surfaceSampler = new SurfaceSampler(SURFACE_PROBABILITIES);
     protected GeneratorParams params;
     protected final Coordinate start;
     protected final Coordinate end;
 
     /**
-     * Конструктор {@code BaseGenerator} с заданными координатами начала и конца.
+     * Конструктор {@code BaseGenerator} с заданными координатами начала и конца и случайным зерном.
      *
      * @param start координата начала лабиринта
      * @param end   координата конца лабиринта
      */
     public BaseGenerator(Coordinate start, Coordinate end, int height, int width) {
+        this(start, end, height, width, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Конструктор {@code BaseGenerator} с заданным зерном и источником случайных чисел по умолчанию.
+     *
+     * @param start координата начала лабиринта
+     * @param end   координата конца лабиринта
+     * @param seed  зерно генерации
+     */
+    public BaseGenerator(Coordinate start, Coordinate end, int height, int width, long seed) {
+        this(start, end, height, width, seed, DEFAULT_RANDOM);
+    }
+
+    /**
+     * Конструктор {@code BaseGenerator} с заданным зерном и источником случайных чисел.
+     *
+     * @param start         координата начала лабиринта
+     * @param end           координата конца лабиринта
+     * @param seed          зерно генерации
+     * @param randomFactory фабрика источника случайных чисел по зерну,
+     *                      например {@code RandomGeneratorFactory.of("L64X128MixRandom")::create}
+     */
+    public BaseGenerator(
+        Coordinate start, Coordinate end, int height, int width,
+        long seed, LongFunction<RandomGenerator> randomFactory
+    ) {
         this.start = start;
         this.end = end;
         this.params = new GeneratorParams(height, width);
+        this.seed = seed;
+        this.randomFactory = randomFactory;
+        this.random = randomFactory.apply(seed);
+    }
+
+    /**
+     * Возвращает зерно, из которого генерируется лабиринт.
+     *
+     * @return зерно генерации
+     */
+    public long seed() {
+        return seed;
+    }
+
+    LongFunction<RandomGenerator> randomFactory() {
+        return randomFactory;
     }
 
     /**
      * Генерирует лабиринт заданной высоты и ширины.
+     * Если запись JFR включена, публикует событие {@link MazeGeneratedEvent}; иначе объект события
+     * не выходит за пределы метода и затраты сводятся к проверке включенности.
      *
      * @return сгенерированный {@code Maze}
      */
     @Override
-    public abstract Maze generate();
+    public final Maze generate() {
+        MazeGeneratedEvent event = new MazeGeneratedEvent();
+        event.begin();
+        Maze maze = build();
+        event.end();
+        if (event.shouldCommit()) {
+            CellGrid grid = maze.grid();
+            commit(event, countPassages(grid, 0, grid.size()));
+        }
+        return maze;
+    }
 
     /**
-     * Инициализирует сетку лабиринта, устанавливая все ячейки в тип WALL.
+     * Строит лабиринт заданной высоты и ширины.
+     *
+     * @return сгенерированный {@code Maze}
      */
-    protected void initializeGrid() {
-        for (int row = 0; row < params.height(); row++) {
-            for (int col = 0; col < params.width(); col++) {
-                params.grid()[row][col] = new Cell(row, col, Cell.Type.WALL);
+    protected abstract Maze build();
+
+    /**
+     * Заполняет и публикует событие генерации.
+     *
+     * @param event       завершенное событие
+     * @param cellsCarved количество проходимых клеток лабиринта
+     */
+    void commit(MazeGeneratedEvent event, long cellsCarved) {
+        event.height = params.height();
+        event.width = params.width();
+        event.algorithm = getClass().getSimpleName();
+        event.seed = seed;
+        event.cellsCarved = cellsCarved;
+        event.commit();
+    }
+
+    /**
+     * Считает проходимые клетки в диапазоне индексов {@code [from, to)} сетки.
+     */
+    static long countPassages(CellGrid cells, int from, int to) {
+        long passages = 0;
+        for (int index = from; index < to; index++) {
+            if (!cells.isWall(index)) {
+                passages++;
             }
         }
+        return passages;
+    }
+
+    /**
+     * Прерывает генерацию, если прерван поток, в котором она выполняется (например, по истечении времени
+     * задания). Флаг проверяется раз в 4096 шагов, чтобы проверка не замедляла цикл генерации.
+     *
+     * @param step номер шага цикла генерации
+     * @throws CancellationException если поток прерван
+     */
+    protected static void checkInterrupted(int step) {
+        if ((step & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Генерация лабиринта прервана");
+        }
     }
 
     /**
-     * Возвращает случайное значение вероятности от 1 до MAX_CHANCE.
+     * Инициализирует сетку лабиринта, устанавливая все ячейки в тип WALL.
      */
-    private int getRandomChance() {
-        return secureRandom.nextInt(MAX_CHANCE) + 1;
+    protected void initializeGrid() {
+        params.grid().fill(Cell.Type.WALL);
     }
 
     /**
@@ -74,44 +197,88 @@ public abstract class BaseGenerator implements MazeGenerationAlgorithm {
      * @return случайное целое число
      */
     protected int getRandomInt(int bound) {
-        return secureRandom.nextInt(bound);
+        return random.nextInt(bound);
     }
 
     /**
-     * Определяет тип поверхности для ячейки, который не является стеной, на основе вероятностей.
+     * Генерирует случайное число типа {@code long}, например зерно для вспомогательного генератора.
+     *
+     * @return случайное число
+     */
+    protected long getRandomLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * Определяет тип поверхности для ячейки, который не является стеной, по распределению {@link #surfaceSampler}.
      *
      * @return {@code Cell.Type}, представляющий определенный тип поверхности
      */
     protected Cell.Type determineNonWallSurfaceType() {
-        int chance = getRandomChance();
-        int cumulativeProbability = 0;
-
-        for (Map.Entry<Cell.Type, Integer> entry : SURFACE_PROBABILITIES.entrySet()) {
-            cumulativeProbability += entry.getValue();
-            if (chance <= cumulativeProbability) {
-                return entry.getKey();
-            }
-        }
-
-        return Cell.Type.PASSAGE;
+        return surfaceSampler.sample(random);
     }
 
     /**
      * Добавляет циклы в лабиринт на основании вероятности.
+     * Открытые стены становятся проходами, поверхность им назначает {@link #assignSurfaces()}.
      */
     protected void addLoops() {
-        for (int row = 0; row < params.height(); row++) {
-            for (int col = 0; col < params.width(); col++) {
-                if (params.grid()[row][col].type() == Cell.Type.WALL) {
-                    int chance = getRandomChance();
-                    if (chance <= LOOP_CHANCE) {
-                        params.grid()[row][col] = new Cell(row, col, determineNonWallSurfaceType());
-                    }
+        CellGrid grid = params.grid();
+        addLoops(grid, 0, grid.size());
+    }
+
+    /**
+     * Добавляет циклы в диапазон индексов {@code [from, to)} сетки.
+     *
+     * @param cells сетка или буфер строки
+     * @param from  первый индекс диапазона (включительно)
+     * @param to    последний индекс диапазона (не включительно)
+     */
+    protected void addLoops(CellGrid cells, int from, int to) {
+        addLoops(cells, from, to, random);
+    }
+
+    static void addLoops(CellGrid cells, int from, int to, RandomGenerator random) {
+        for (int index = from; index < to; index++) {
+            if (cells.isWall(index)) {
+                int chance = random.nextInt(MAX_CHANCE) + 1;
+                if (chance <= LOOP_CHANCE) {
+                    cells.set(index, Cell.Type.PASSAGE);
                 }
             }
         }
     }
 
+    /**
+     * Назначает поверхности всем проходам лабиринта одним проходом по сетке.
+     * Генераторы прокладывают проходы типом {@code PASSAGE} и вызывают этот метод в конце,
+     * начальная и конечная точки остаются обычными проходами.
+     */
+    protected void assignSurfaces() {
+        CellGrid grid = params.grid();
+        for (int row = 0; row < grid.height(); row++) {
+            int rowStart = grid.index(row, 0);
+            assignSurfaces(grid, rowStart, rowStart + grid.width());
+        }
+        grid.set(start.row(), start.col(), Cell.Type.PASSAGE);
+        grid.set(end.row(), end.col(), Cell.Type.PASSAGE);
+    }
+
+    /**
+     * Назначает поверхности проходам в диапазоне индексов {@code [from, to)} сетки.
+     *
+     * @param cells сетка или буфер строки
+     * @param from  первый индекс диапазона (включительно)
+     * @param to    последний индекс диапазона (не включительно)
+     */
+    protected void assignSurfaces(CellGrid cells, int from, int to) {
+        assignSurfaces(cells, from, to, random);
+    }
+
+    void assignSurfaces(CellGrid cells, int from, int to, RandomGenerator rowRandom) {
+        surfaceSampler.fill(cells, from, to, rowRandom);
+    }
+
     /**
      * Проверяет, является ли указанная позиция ячейки действительной для заданного типа ячейки.
      *
@@ -121,7 +288,6 @@ public abstract class BaseGenerator implements MazeGenerationAlgorithm {
      * @return {@code true}, если ячейка действительна, {@code false} в противном случае
      */
     protected boolean isValidCell(int row, int col, Cell.Type type) {
-        return row >= 0 && row < params.height() && col >= 0 && col < params.width()
-            && params.grid()[row][col].type() == type;
+        return params.grid().contains(row, col) && params.grid().type(row, col) == type;
     }
 }
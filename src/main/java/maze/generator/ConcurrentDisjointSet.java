@@ -0,0 +1,60 @@
+package maze.generator;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Неблокирующая система непересекающихся множеств для нескольких потоков.
+ * Родители хранятся в {@link AtomicIntegerArray}; корень ссылается сам на себя.
+ * Корень всегда присоединяется к корню с большим номером, поэтому номера вдоль пути к корню растут
+ * и циклы невозможны даже при гонках. Присоединение выполняется CAS-операцией, которая удается только
+ * если присоединяемый элемент все еще корень; сжатие путей (делением пополам) также выполняется CAS
+ * и может безопасно проиграть гонку.
+ */
+final class ConcurrentDisjointSet {
+    private final AtomicIntegerArray parents;
+
+    ConcurrentDisjointSet(int size) {
+        this.parents = new AtomicIntegerArray(size);
+        for (int element = 0; element < size; element++) {
+            parents.set(element, element);
+        }
+    }
+
+    int find(int element) {
+        int current = element;
+        while (true) {
+            int parent = parents.get(current);
+            if (parent == current) {
+                return current;
+            }
+            int grandparent = parents.get(parent);
+            if (parent != grandparent) {
+                parents.compareAndSet(current, parent, grandparent);
+            }
+            current = grandparent;
+        }
+    }
+
+    /**
+     * Объединяет множества двух элементов.
+     *
+     * @param first  первый элемент
+     * @param second второй элемент
+     * @return {@code true}, если множества объединил этот вызов; {@code false}, если элементы уже
+     *     были в одном множестве
+     */
+    boolean union(int first, int second) {
+        while (true) {
+            int firstRoot = find(first);
+            int secondRoot = find(second);
+            if (firstRoot == secondRoot) {
+                return false;
+            }
+            int lower = Math.min(firstRoot, secondRoot);
+            int higher = Math.max(firstRoot, secondRoot);
+            if (parents.compareAndSet(lower, lower, higher)) {
+                return true;
+            }
+        }
+    }
+}
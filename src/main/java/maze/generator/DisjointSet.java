@@ -0,0 +1,52 @@
+package maze.generator;
+
+import java.util.Arrays;
+
+/**
+ * Система непересекающихся множеств над номерами {@code 0..size-1} в одном массиве {@code int[]}:
+ * для корня хранится минус размер множества, для остальных элементов - родитель.
+ * Объединение по размеру и сжатие путей (делением пополам) дают почти константное время операций.
+ */
+final class DisjointSet {
+    private final int[] parents;
+
+    DisjointSet(int size) {
+        this.parents = new int[size];
+        Arrays.fill(parents, -1);
+    }
+
+    int find(int element) {
+        int current = element;
+        while (parents[current] >= 0) {
+            int parent = parents[current];
+            if (parents[parent] >= 0) {
+                parents[current] = parents[parent];
+            }
+            current = parent;
+        }
+        return current;
+    }
+
+    /**
+     * Объединяет множества двух элементов.
+     *
+     * @param first  первый элемент
+     * @param second второй элемент
+     * @return {@code true}, если элементы были в разных множествах
+     */
+    boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot) {
+            return false;
+        }
+        if (parents[firstRoot] > parents[secondRoot]) {
+            int smaller = firstRoot;
+            firstRoot = secondRoot;
+            secondRoot = smaller;
+        }
+        parents[firstRoot] += parents[secondRoot];
+        parents[secondRoot] = firstRoot;
+        return true;
+    }
+}
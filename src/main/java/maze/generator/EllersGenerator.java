@@ -0,0 +1,268 @@
+package maze.generator;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+
+/**
+ * Класс {@code EllersGenerator} реализует алгоритм Эллера для генерации лабиринта.
+ * Комнаты лабиринта находятся в ячейках с четными строкой и столбцом, между ними - проходы или стены.
+ * Алгоритм строит лабиринт строка за строкой и хранит только номера множеств комнат текущей строки,
+ * поэтому {@link #generate(MazeRowConsumer)} выдает строки получателю, используя O(ширины) памяти
+ * независимо от высоты лабиринта. Циклы и поверхности также назначаются построчно.
+ * Если начальная или конечная точка попадает на стену между комнатами, она превращается в проход,
+ * соединенный с соседней комнатой.
+ */
+public class EllersGenerator extends BaseGenerator {
+    private static final int NEW_SET = -1;
+
+    /**
+     * Создает экземпляр генератора Эллера с заданными координатами старта и конца.
+     *
+     * @param start координаты начальной точки лабиринта.
+     * @param end   координаты конечной точки лабиринта.
+     */
+    public EllersGenerator(Coordinate start, Coordinate end, int height, int width) {
+        super(start, end, height, width);
+    }
+
+    /**
+     * Создает экземпляр генератора Эллера с заданным зерном, воспроизводящим лабиринт.
+     *
+     * @param start координаты начальной точки лабиринта.
+     * @param end   координаты конечной точки лабиринта.
+     * @param seed  зерно генерации.
+     */
+    public EllersGenerator(Coordinate start, Coordinate end, int height, int width, long seed) {
+        super(start, end, height, width, seed);
+    }
+
+    /**
+     * Создает экземпляр генератора Эллера с заданным зерном и источником случайных чисел.
+     *
+     * @param start         координаты начальной точки лабиринта.
+     * @param end           координаты конечной точки лабиринта.
+     * @param seed          зерно генерации.
+     * @param randomFactory фабрика источника случайных чисел по зерну.
+     */
+    public EllersGenerator(
+        Coordinate start, Coordinate end, int height, int width,
+        long seed, LongFunction<RandomGenerator> randomFactory
+    ) {
+        super(start, end, height, width, seed, randomFactory);
+    }
+
+    /**
+     * Генерирует лабиринт заданных размеров целиком, собирая строки потоковой генерации в сетку.
+     *
+     * @return сгенерированный лабиринт.
+     */
+    @Override
+    protected Maze build() {
+        CellGrid grid = params.grid();
+        generateRows((row, cells) ->
+            System.arraycopy(cells.cells(), 0, grid.cells(), grid.index(row, 0), cells.size()));
+        return new Maze(grid, start, end);
+    }
+
+    /**
+     * Генерирует лабиринт построчно, передавая каждую готовую строку получателю сверху вниз.
+     * Полная сетка не создается.
+     * Если запись JFR включена, публикует событие {@link MazeGeneratedEvent}, длительность которого
+     * включает и время работы получателя.
+     *
+     * @param consumer получатель строк.
+     */
+    public void generate(MazeRowConsumer consumer) {
+        MazeGeneratedEvent event = new MazeGeneratedEvent();
+        if (!event.isEnabled()) {
+            generateRows(consumer);
+            return;
+        }
+        long[] carved = new long[1];
+        event.begin();
+        generateRows((row, cells) -> {
+            carved[0] += countPassages(cells, 0, cells.size());
+            consumer.accept(row, cells);
+        });
+        event.end();
+        if (event.shouldCommit()) {
+            commit(event, carved[0]);
+        }
+    }
+
+    private void generateRows(MazeRowConsumer consumer) {
+        int height = params.height();
+        int width = params.width();
+        int rooms = (width + 1) / 2;
+        int roomRows = (height + 1) / 2;
+
+        CellGrid roomRow = new CellGrid(1, width);
+        CellGrid linkRow = new CellGrid(1, width);
+        int[] sets = new int[rooms];
+        Arrays.fill(sets, NEW_SET);
+        RowSets rowSets = new RowSets(rooms);
+
+        for (int roomRowIndex = 0; roomRowIndex < roomRows; roomRowIndex++) {
+            // Строка комнат обходится за O(width) шагов, поэтому прерывание проверяется на каждой строке.
+            checkInterrupted(0);
+            int row = 2 * roomRowIndex;
+            boolean lastRoomRow = roomRowIndex == roomRows - 1;
+            roomRow.fill(Cell.Type.WALL);
+            linkRow.fill(Cell.Type.WALL);
+
+            rowSets.load(sets);
+            joinRooms(rowSets, roomRow, lastRoomRow);
+            if (!lastRoomRow) {
+                descend(rowSets, linkRow, sets);
+            }
+
+            emit(row, roomRow, consumer);
+            if (row + 1 < height) {
+                emit(row + 1, linkRow, consumer);
+            }
+        }
+    }
+
+    /**
+     * Открывает комнаты строки и случайно соединяет соседние комнаты из разных множеств.
+     * В последней строке соединяются все соседние комнаты из разных множеств.
+     */
+    private void joinRooms(RowSets rowSets, CellGrid roomRow, boolean lastRoomRow) {
+        int rooms = rowSets.size();
+        for (int room = 0; room < rooms; room++) {
+            roomRow.set(2 * room, Cell.Type.PASSAGE);
+        }
+        for (int room = 0; room + 1 < rooms; room++) {
+            if (rowSets.find(room) != rowSets.find(room + 1) && (lastRoomRow || getRandomInt(2) == 0)) {
+                roomRow.set(2 * room + 1, Cell.Type.PASSAGE);
+                rowSets.union(room, room + 1);
+            }
+        }
+    }
+
+    /**
+     * Случайно выбирает комнаты, соединяемые со следующей строкой, так что у каждого множества
+     * остается хотя бы одна, и записывает множества комнат следующей строки.
+     */
+    private void descend(RowSets rowSets, CellGrid linkRow, int[] sets) {
+        int rooms = rowSets.size();
+        rowSets.markLastRooms();
+        for (int room = 0; room < rooms; room++) {
+            int set = rowSets.find(room);
+            boolean down = getRandomInt(2) == 0 || rowSets.isLastRoomWithoutDescent(room, set);
+            if (down) {
+                rowSets.markDescended(set);
+                linkRow.set(2 * room, Cell.Type.PASSAGE);
+                sets[room] = set;
+            } else {
+                sets[room] = NEW_SET;
+            }
+        }
+    }
+
+    /**
+     * Достраивает строку (точки старта и финиша, циклы, поверхности) и передает ее получателю.
+     */
+    private void emit(int row, CellGrid cells, MazeRowConsumer consumer) {
+        openEndpoint(start, row, cells);
+        openEndpoint(end, row, cells);
+        addLoops(cells, 0, cells.size());
+        assignSurfaces(cells, 0, cells.size());
+        resetEndpoint(start, row, cells);
+        resetEndpoint(end, row, cells);
+        consumer.accept(row, cells);
+    }
+
+    /**
+     * Превращает точку в проход. Точка между четырьмя комнатами (нечетные строка и столбец)
+     * дополнительно соединяется с проходом слева, ведущим к соседним комнатам.
+     */
+    private void openEndpoint(Coordinate point, int row, CellGrid cells) {
+        if (point.row() != row) {
+            return;
+        }
+        cells.set(point.col(), Cell.Type.PASSAGE);
+        if (row % 2 == 1 && point.col() % 2 == 1) {
+            cells.set(point.col() - 1, Cell.Type.PASSAGE);
+        }
+    }
+
+    private void resetEndpoint(Coordinate point, int row, CellGrid cells) {
+        if (point.row() == row) {
+            cells.set(point.col(), Cell.Type.PASSAGE);
+        }
+    }
+
+    /**
+     * Множества комнат одной строки: система непересекающихся множеств над номерами комнат.
+     * Номер множества, переходящий в следующую строку, - номер корневой комнаты, новые комнаты
+     * получают номера {@code rooms + room}, поэтому номера никогда не выходят за {@code 2 * rooms}.
+     */
+    private static final class RowSets {
+        private final int[] parents;
+        private final int[] rootOfSet;
+        private final int[] lastRoom;
+        private final boolean[] descended;
+
+        RowSets(int rooms) {
+            this.parents = new int[rooms];
+            this.rootOfSet = new int[2 * rooms];
+            this.lastRoom = new int[rooms];
+            this.descended = new boolean[rooms];
+        }
+
+        int size() {
+            return parents.length;
+        }
+
+        void load(int[] sets) {
+            int rooms = parents.length;
+            Arrays.fill(rootOfSet, NEW_SET);
+            for (int room = 0; room < rooms; room++) {
+                int set = sets[room] == NEW_SET ? rooms + room : sets[room];
+                if (rootOfSet[set] == NEW_SET) {
+                    rootOfSet[set] = room;
+                }
+                parents[room] = rootOfSet[set];
+            }
+        }
+
+        int find(int room) {
+            int root = room;
+            while (parents[root] != root) {
+                root = parents[root];
+            }
+            int current = room;
+            while (parents[current] != root) {
+                int next = parents[current];
+                parents[current] = root;
+                current = next;
+            }
+            return root;
+        }
+
+        void union(int first, int second) {
+            parents[find(second)] = find(first);
+        }
+
+        void markLastRooms() {
+            Arrays.fill(descended, false);
+            for (int room = 0; room < parents.length; room++) {
+                lastRoom[find(room)] = room;
+            }
+        }
+
+        boolean isLastRoomWithoutDescent(int room, int set) {
+            return lastRoom[set] == room && !descended[set];
+        }
+
+        void markDescended(int set) {
+            descended[set] = true;
+        }
+    }
+}
@@ -1,17 +1,31 @@
 package maze.generator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import maze.model.Cell;
+import maze.model.CellGrid;
 
 @Getter
 public class GeneratorParams {
     private final int height;
     private final int width;
-    private final Cell[][] grid;
+    @Getter(AccessLevel.NONE)
+    private CellGrid grid;
 
     public GeneratorParams(int height, int width) {
         this.height = height;
         this.width = width;
-        this.grid = new Cell[this.height][this.width];
+    }
+
+    /**
+     * Возвращает сетку лабиринта. Сетка создается при первом обращении, поэтому потоковые генераторы,
+     * которые выдают лабиринт по строкам, не держат в памяти всю сетку.
+     *
+     * @return сетка лабиринта
+     */
+    public CellGrid grid() {
+        if (grid == null) {
+            grid = new CellGrid(height, width);
+        }
+        return grid;
     }
 }
@@ -0,0 +1,76 @@
+package maze.generator;
+
+import java.util.Arrays;
+
+/**
+ * Множество индексов ячеек с доступом по позиции: {@code int[]} элементов и {@code int[]} позиций,
+ * индексируемый номером ячейки. Добавление, проверка наличия, выбор по позиции и удаление
+ * (последний элемент переносится на место удаленного) выполняются за O(1) и не создают объектов.
+ */
+final class IndexedCellSet {
+    private static final int ABSENT = -1;
+
+    private final int[] items;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Создает пустое множество для индексов из диапазона {@code [0, capacity)}.
+     *
+     * @param capacity количество ячеек сетки
+     */
+    IndexedCellSet(int capacity) {
+        this.items = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int index) {
+        return positions[index] != ABSENT;
+    }
+
+    /**
+     * Добавляет индекс, если его еще нет в множестве.
+     *
+     * @param index индекс ячейки
+     */
+    void add(int index) {
+        if (positions[index] == ABSENT) {
+            items[size] = index;
+            positions[index] = size++;
+        }
+    }
+
+    /**
+     * Возвращает индекс, находящийся на заданной позиции.
+     *
+     * @param position позиция от 0 до {@code size() - 1}
+     * @return индекс ячейки
+     */
+    int get(int position) {
+        return items[position];
+    }
+
+    /**
+     * Удаляет элемент на заданной позиции, перемещая на его место последний элемент.
+     *
+     * @param position позиция от 0 до {@code size() - 1}
+     * @return удаленный индекс ячейки
+     */
+    int removeAt(int position) {
+        int removed = items[position];
+        int last = items[--size];
+        items[position] = last;
+        positions[last] = position;
+        positions[removed] = ABSENT;
+        return removed;
+    }
+}
@@ -0,0 +1,227 @@
+package maze.generator;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import lombok.Setter;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+
+/**
+ * Класс {@code KruskalGenerator} реализует алгоритм Краскала для генерации лабиринта.
+ * Комнаты лабиринта находятся в ячейках с четными строкой и столбцом, ребра - стены между соседними комнатами.
+ * Ребра (индексы стен) перемешиваются, и стена открывается, если соединяет комнаты из разных множеств
+ * системы непересекающихся множеств {@link DisjointSet}.
+ * При {@code parallelism > 1} комнаты делятся на горизонтальные полосы, каждая полоса перемешивает свои ребра
+ * собственным генератором случайных чисел и обрабатывает их в {@link ForkJoinPool} одновременно с другими
+ * через неблокирующую {@link ConcurrentDisjointSet}. Результат по-прежнему остовное дерево комнат,
+ * но порядок обработки ребер зависит от планирования потоков, поэтому параллельный режим
+ * не воспроизводит лабиринт по зерну.
+ */
+public class KruskalGenerator extends BaseGenerator implements TileCarver {
+    /**
+     * Количество полос, обрабатываемых параллельно (по умолчанию 1 - последовательный режим).
+     */
+    @Setter
+    private int parallelism = 1;
+
+    /**
+     * Пул потоков для параллельного режима (по умолчанию общий пул).
+     */
+    @Setter
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    private int roomColumns;
+
+    /**
+     * Создает экземпляр генератора Краскала с заданными координатами старта и конца.
+     *
+     * @param start координаты начальной точки лабиринта.
+     * @param end   координаты конечной точки лабиринта.
+     */
+    public KruskalGenerator(Coordinate start, Coordinate end, int height, int width) {
+        super(start, end, height, width);
+    }
+
+    /**
+     * Создает экземпляр генератора Краскала с заданным зерном, воспроизводящим лабиринт.
+     *
+     * @param start координаты начальной точки лабиринта.
+     * @param end   координаты конечной точки лабиринта.
+     * @param seed  зерно генерации.
+     */
+    public KruskalGenerator(Coordinate start, Coordinate end, int height, int width, long seed) {
+        super(start, end, height, width, seed);
+    }
+
+    /**
+     * Создает экземпляр генератора Краскала с заданным зерном и источником случайных чисел.
+     *
+     * @param start         координаты начальной точки лабиринта.
+     * @param end           координаты конечной точки лабиринта.
+     * @param seed          зерно генерации.
+     * @param randomFactory фабрика источника случайных чисел по зерну.
+     */
+    public KruskalGenerator(
+        Coordinate start, Coordinate end, int height, int width,
+        long seed, LongFunction<RandomGenerator> randomFactory
+    ) {
+        super(start, end, height, width, seed, randomFactory);
+    }
+
+    /**
+     * Генерирует лабиринт заданных размеров.
+     *
+     * @return сгенерированный лабиринт.
+     */
+    @Override
+    protected Maze build() {
+        carvePassages();
+        addLoops();
+        assignSurfaces();
+        return new Maze(params.grid(), start, end);
+    }
+
+    /**
+     * Открывает все комнаты и стены остовного дерева, затем соединяет с комнатами
+     * начальную и конечную точки.
+     */
+    @Override
+    public CellGrid carvePassages() {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Параллелизм должен быть положительным");
+        }
+        initializeGrid();
+        CellGrid grid = params.grid();
+        int roomRows = (grid.height() + 1) / 2;
+        roomColumns = (grid.width() + 1) / 2;
+
+        for (int row = 0; row < grid.height(); row += 2) {
+            for (int col = 0; col < grid.width(); col += 2) {
+                grid.set(row, col, Cell.Type.PASSAGE);
+            }
+        }
+
+        if (parallelism == 1) {
+            int[] edges = collectEdges(0, roomRows);
+            shuffle(edges, this::getRandomInt);
+            DisjointSet rooms = new DisjointSet(roomRows * roomColumns);
+            for (int step = 0; step < edges.length; step++) {
+                checkInterrupted(step);
+                int edge = edges[step];
+                if (rooms.union(firstRoom(edge), secondRoom(edge))) {
+                    grid.set(edge, Cell.Type.PASSAGE);
+                }
+            }
+        } else {
+            carveConcurrently(roomRows);
+        }
+
+        openEndpoint(start);
+        openEndpoint(end);
+        return grid;
+    }
+
+    private void carveConcurrently(int roomRows) {
+        int bands = Math.min(parallelism, roomRows);
+        long[] seeds = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            seeds[band] = getRandomLong();
+        }
+        ConcurrentDisjointSet rooms = new ConcurrentDisjointSet(roomRows * roomColumns);
+        CellGrid grid = params.grid();
+
+        RecursiveAction[] tasks = new RecursiveAction[bands];
+        for (int band = 0; band < bands; band++) {
+            int fromRoomRow = (int) ((long) roomRows * band / bands);
+            int toRoomRow = (int) ((long) roomRows * (band + 1) / bands);
+            RandomGenerator bandRandom = randomFactory().apply(seeds[band]);
+            tasks[band] = new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    int[] edges = collectEdges(fromRoomRow, toRoomRow);
+                    shuffle(edges, bandRandom::nextInt);
+                    for (int edge : edges) {
+                        if (rooms.union(firstRoom(edge), secondRoom(edge))) {
+                            grid.set(edge, Cell.Type.PASSAGE);
+                        }
+                    }
+                }
+            };
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * Собирает индексы стен, соединяющих комнаты строк {@code [fromRoomRow, toRoomRow)}
+     * с соседями справа и снизу.
+     */
+    private int[] collectEdges(int fromRoomRow, int toRoomRow) {
+        CellGrid grid = params.grid();
+        int[] edges = new int[2 * (toRoomRow - fromRoomRow) * roomColumns];
+        int count = 0;
+        for (int row = 2 * fromRoomRow; row < 2 * toRoomRow; row += 2) {
+            for (int col = 0; col < grid.width(); col += 2) {
+                if (col + 2 < grid.width()) {
+                    edges[count++] = grid.index(row, col + 1);
+                }
+                if (row + 2 < grid.height()) {
+                    edges[count++] = grid.index(row + 1, col);
+                }
+            }
+        }
+        return Arrays.copyOf(edges, count);
+    }
+
+    /**
+     * Перемешивает массив алгоритмом Фишера-Йетса.
+     */
+    private static void shuffle(int[] values, IntUnaryOperator randomInt) {
+        for (int last = values.length - 1; last > 0; last--) {
+            int pick = randomInt.applyAsInt(last + 1);
+            int value = values[pick];
+            values[pick] = values[last];
+            values[last] = value;
+        }
+    }
+
+    private int firstRoom(int edge) {
+        int width = params.width();
+        int row = edge / width;
+        int col = edge - row * width;
+        return row % 2 == 0 ? room(row, col - 1) : room(row - 1, col);
+    }
+
+    private int secondRoom(int edge) {
+        int width = params.width();
+        int row = edge / width;
+        int col = edge - row * width;
+        return row % 2 == 0 ? room(row, col + 1) : room(row + 1, col);
+    }
+
+    private int room(int row, int col) {
+        return row / 2 * roomColumns + col / 2;
+    }
+
+    /**
+     * Превращает точку в проход. Точка между четырьмя комнатами (нечетные строка и столбец)
+     * дополнительно соединяется с проходом слева, ведущим к соседним комнатам.
+     */
+    private void openEndpoint(Coordinate point) {
+        CellGrid grid = params.grid();
+        grid.set(point.row(), point.col(), Cell.Type.PASSAGE);
+        if (point.row() % 2 == 1 && point.col() % 2 == 1) {
+            grid.set(point.row(), point.col() - 1, Cell.Type.PASSAGE);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package maze.generator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR о построении лабиринта генератором {@link BaseGenerator}; длительность события - время генерации.
+ */
+@Name("maze.MazeGenerated")
+@Label("Maze Generated")
+@Category("Maze")
+@Description("Построение лабиринта")
+@StackTrace(false)
+final class MazeGeneratedEvent extends Event {
+    @Label("Height")
+    int height;
+
+    @Label("Width")
+    int width;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Seed")
+    long seed;
+
+    @Label("Cells Carved")
+    @Description("Количество проходимых клеток")
+    long cellsCarved;
+}
@@ -1,9 +1,110 @@
 package maze.generator;
 
+import java.util.Optional;
+import lombok.Getter;
+import maze.model.Coordinate;
+
 /**
  * {@code MazeGenerator} определяет доступные алгоритмы генерации лабиринтов.
  * Доступные алгоритмы:
  * - {@code PRIMS}: алгоритм Прима.
  * - {@code RECURSIVE_BACKTRACKER}: алгоритм рекурсивного возврата.
+ * - {@code ELLERS}: алгоритм Эллера (потоковая генерация по строкам).
+ * - {@code KRUSKAL}: алгоритм Краскала.
+ * Алгоритмы, умеющие прокладывать отдельную плитку ({@link #tileCarver()}), можно запускать параллельно
+ * по плиткам через {@link ParallelTiledGenerator}.
  */
-public enum MazeGenerator { PRIMS, RECURSIVE_BACKTRACKER }
+public enum MazeGenerator {
+    PRIMS(0), RECURSIVE_BACKTRACKER(1), ELLERS(2), KRUSKAL(3);
+
+    /**
+     * Размер плитки, означающий обычную генерацию без плиток.
+     */
+    public static final int UNTILED = 0;
+
+    /**
+     * Постоянный идентификатор алгоритма для двоичных форматов; в отличие от порядкового номера
+     * не меняется при изменении порядка констант.
+     */
+    @Getter
+    private final int id;
+
+    MazeGenerator(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Находит алгоритм по постоянному идентификатору.
+     *
+     * @param id идентификатор алгоритма
+     * @return алгоритм или пустое значение, если идентификатор неизвестен
+     */
+    public static Optional<MazeGenerator> byId(int id) {
+        for (MazeGenerator generator : values()) {
+            if (generator.id == id) {
+                return Optional.of(generator);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Создает генератор выбранного алгоритма.
+     *
+     * @param start  начальная точка
+     * @param end    конечная точка
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param seed   зерно генератора случайных чисел
+     * @return генератор лабиринта
+     */
+    public MazeGenerationAlgorithm create(Coordinate start, Coordinate end, int height, int width, long seed) {
+        return switch (this) {
+            case PRIMS -> new PrimsGenerator(start, end, height, width, seed);
+            case RECURSIVE_BACKTRACKER -> new RecursiveBacktrackingGenerator(start, end, height, width, seed);
+            case ELLERS -> new EllersGenerator(start, end, height, width, seed);
+            case KRUSKAL -> new KruskalGenerator(start, end, height, width, seed);
+        };
+    }
+
+    /**
+     * Создает генератор выбранного алгоритма, при ненулевом размере плитки - параллельный генератор
+     * {@link ParallelTiledGenerator}, прокладывающий плитки этим алгоритмом.
+     *
+     * @param start    начальная точка
+     * @param end      конечная точка
+     * @param height   высота лабиринта
+     * @param width    ширина лабиринта
+     * @param seed     зерно генератора случайных чисел
+     * @param tileSize размер стороны плитки или {@link #UNTILED}
+     * @return генератор лабиринта
+     * @throws IllegalArgumentException если размер плитки отрицателен или алгоритм не поддерживает плитки
+     */
+    public MazeGenerationAlgorithm create(
+        Coordinate start, Coordinate end, int height, int width, long seed, int tileSize
+    ) {
+        if (tileSize == UNTILED) {
+            return create(start, end, height, width, seed);
+        }
+        if (tileSize < 0) {
+            throw new IllegalArgumentException("Размер плитки не может быть отрицательным");
+        }
+        TileCarver.Factory carver = tileCarver().orElseThrow(
+            () -> new IllegalArgumentException("Алгоритм " + this + " не поддерживает генерацию по плиткам"));
+        return new ParallelTiledGenerator(start, end, height, width, carver, seed).tileSize(tileSize);
+    }
+
+    /**
+     * Возвращает фабрику генераторов плиток этого алгоритма.
+     *
+     * @return фабрика или пустое значение, если алгоритм не умеет прокладывать отдельную плитку
+     */
+    public Optional<TileCarver.Factory> tileCarver() {
+        return switch (this) {
+            case PRIMS -> Optional.of(PrimsGenerator::new);
+            case RECURSIVE_BACKTRACKER -> Optional.of(RecursiveBacktrackingGenerator::new);
+            case KRUSKAL -> Optional.of(KruskalGenerator::new);
+            case ELLERS -> Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package maze.generator;
+
+import maze.model.CellGrid;
+
+/**
+ * Получатель строк лабиринта от потокового генератора.
+ */
+@FunctionalInterface
+public interface MazeRowConsumer {
+    /**
+     * Принимает очередную строку лабиринта.
+     *
+     * @param row   номер строки.
+     * @param cells сетка высотой в одну строку; буфер переиспользуется генератором и действителен
+     *              только во время вызова.
+     */
+    void accept(int row, CellGrid cells);
+}
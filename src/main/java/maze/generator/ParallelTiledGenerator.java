@@ -0,0 +1,323 @@
+package maze.generator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import lombok.Setter;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Direction;
+import maze.model.Maze;
+
+/**
+ * Класс {@code ParallelTiledGenerator} генерирует лабиринт параллельно по плиткам.
+ * Сетка делится на квадратные плитки, разделенные швами толщиной в одну стену. Каждая плитка
+ * независимо прокладывается генератором {@link TileCarver} (Прима, рекурсивного возврата или Краскала)
+ * в {@link ForkJoinPool}.
+ * Затем случайное остовное дерево графа плиток (алгоритм Краскала) определяет, через какие швы
+ * соединить соседние плитки: в каждом выбранном шве открывается одна стена между проходами обеих плиток,
+ * поэтому лабиринт остается связным и конечная точка достижима. Циклы и поверхности также назначаются
+ * параллельно, каждая плитка - вместе со швами справа и снизу.
+ * Каждая плитка использует собственные зерна, выведенные из зерна генератора, поэтому результат
+ * не зависит от числа потоков.
+ */
+public class ParallelTiledGenerator extends BaseGenerator {
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private static final int RIGHT = 0;
+    private static final int DOWN = 1;
+    private static final int EDGE_KINDS = 2;
+
+    private final TileCarver.Factory tileCarver;
+
+    /**
+     * Размер стороны плитки в ячейках (по умолчанию {@link #DEFAULT_TILE_SIZE}).
+     */
+    @Setter
+    private int tileSize = DEFAULT_TILE_SIZE;
+
+    /**
+     * Пул потоков для генерации плиток (по умолчанию общий пул).
+     */
+    @Setter
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    private int tileRows;
+    private int tileCols;
+    private long[] carveSeeds;
+    private long[] decorateSeeds;
+
+    /**
+     * Создает параллельный генератор со случайным зерном.
+     *
+     * @param start         координаты начальной точки лабиринта.
+     * @param end           координаты конечной точки лабиринта.
+     * @param tileCarver    фабрика генераторов плиток, например {@code PrimsGenerator::new}.
+     */
+    public ParallelTiledGenerator(
+        Coordinate start, Coordinate end, int height, int width, TileCarver.Factory tileCarver
+    ) {
+        super(start, end, height, width);
+        this.tileCarver = tileCarver;
+    }
+
+    /**
+     * Создает параллельный генератор с заданным зерном, воспроизводящим лабиринт.
+     *
+     * @param start         координаты начальной точки лабиринта.
+     * @param end           координаты конечной точки лабиринта.
+     * @param tileCarver    фабрика генераторов плиток, например {@code PrimsGenerator::new}.
+     * @param seed          зерно генерации.
+     */
+    public ParallelTiledGenerator(
+        Coordinate start, Coordinate end, int height, int width,
+        TileCarver.Factory tileCarver, long seed
+    ) {
+        super(start, end, height, width, seed);
+        this.tileCarver = tileCarver;
+    }
+
+    /**
+     * Создает параллельный генератор с заданным зерном и источником случайных чисел.
+     *
+     * @param start         координаты начальной точки лабиринта.
+     * @param end           координаты конечной точки лабиринта.
+     * @param tileCarver    фабрика генераторов плиток, например {@code PrimsGenerator::new}.
+     * @param seed          зерно генерации.
+     * @param randomFactory фабрика источника случайных чисел по зерну.
+     */
+    public ParallelTiledGenerator(
+        Coordinate start, Coordinate end, int height, int width,
+        TileCarver.Factory tileCarver, long seed, LongFunction<RandomGenerator> randomFactory
+    ) {
+        super(start, end, height, width, seed, randomFactory);
+        this.tileCarver = tileCarver;
+    }
+
+    /**
+     * Генерирует лабиринт заданных размеров.
+     *
+     * @return сгенерированный лабиринт.
+     */
+    @Override
+    protected Maze build() {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Размер плитки должен быть положительным");
+        }
+        CellGrid grid = params.grid();
+        int step = tileSize + 1;
+        tileRows = (grid.height() + step - 1) / step;
+        tileCols = (grid.width() + step - 1) / step;
+        int tileCount = tileRows * tileCols;
+
+        carveSeeds = new long[tileCount];
+        decorateSeeds = new long[tileCount];
+        for (int tile = 0; tile < tileCount; tile++) {
+            carveSeeds[tile] = getRandomLong();
+            decorateSeeds[tile] = getRandomLong();
+        }
+
+        initializeGrid();
+        pool.invoke(new TileTask(0, tileCount, this::carveTile));
+        joinTiles();
+        connectEndpoint(start);
+        connectEndpoint(end);
+        pool.invoke(new TileTask(0, tileCount, this::decorateTile));
+
+        grid.set(start.row(), start.col(), Cell.Type.PASSAGE);
+        grid.set(end.row(), end.col(), Cell.Type.PASSAGE);
+        return new Maze(grid, start, end);
+    }
+
+    /**
+     * Прокладывает проходы плитки отдельным генератором и копирует их в общую сетку.
+     * Плитки не пересекаются, поэтому копирование безопасно выполнять параллельно.
+     */
+    private void carveTile(int tile) {
+        int top = tileTop(tile);
+        int left = tileLeft(tile);
+        int height = tileHeight(tile);
+        int width = tileWidth(tile);
+        Coordinate tileStart = new Coordinate(0, 0);
+        long seed = carveSeeds[tile];
+
+        CellGrid tileGrid = tileCarver.create(tileStart, tileStart, height, width, seed, randomFactory())
+            .carvePassages();
+        CellGrid grid = params.grid();
+        for (int row = 0; row < height; row++) {
+            int target = grid.index(top + row, left);
+            System.arraycopy(tileGrid.cells(), tileGrid.index(row, 0), grid.cells(), target, width);
+        }
+    }
+
+    /**
+     * Добавляет циклы и поверхности в плитку вместе со швами справа и снизу от нее.
+     */
+    private void decorateTile(int tile) {
+        CellGrid grid = params.grid();
+        int top = tileTop(tile);
+        int left = tileLeft(tile);
+        int bottom = Math.min(top + tileSize + 1, grid.height());
+        int right = Math.min(left + tileSize + 1, grid.width());
+        RandomGenerator tileRandom = randomFactory().apply(decorateSeeds[tile]);
+
+        for (int row = top; row < bottom; row++) {
+            int from = grid.index(row, left);
+            int to = from + right - left;
+            addLoops(grid, from, to, tileRandom);
+            assignSurfaces(grid, from, to, tileRandom);
+        }
+    }
+
+    /**
+     * Соединяет плитки по ребрам случайного остовного дерева графа соседних плиток.
+     */
+    private void joinTiles() {
+        int tileCount = tileRows * tileCols;
+        int[] edges = new int[tileCount * EDGE_KINDS];
+        int edgeCount = 0;
+        for (int tile = 0; tile < tileCount; tile++) {
+            if (tile % tileCols + 1 < tileCols) {
+                edges[edgeCount++] = tile * EDGE_KINDS + RIGHT;
+            }
+            if (tile / tileCols + 1 < tileRows) {
+                edges[edgeCount++] = tile * EDGE_KINDS + DOWN;
+            }
+        }
+
+        DisjointSet tiles = new DisjointSet(tileCount);
+        for (int remaining = edgeCount; remaining > 0; remaining--) {
+            int pick = getRandomInt(remaining);
+            int edge = edges[pick];
+            edges[pick] = edges[remaining - 1];
+
+            int tile = edge / EDGE_KINDS;
+            int neighbor = edge % EDGE_KINDS == RIGHT ? tile + 1 : tile + tileCols;
+            if (tiles.union(tile, neighbor)) {
+                openCrossing(tile, neighbor, edge % EDGE_KINDS == RIGHT);
+            }
+        }
+    }
+
+    /**
+     * Открывает стену шва между двумя соседними плитками. Выбирается случайная позиция шва,
+     * по обе стороны которой находятся проходы; если такой нет, от случайной позиции шва прокладываются
+     * коридоры к начальным ячейкам обеих плиток.
+     *
+     * @param tile       левая или верхняя плитка.
+     * @param neighbor   правая или нижняя плитка.
+     * @param vertical   {@code true}, если шов вертикальный (плитки соседствуют по горизонтали).
+     */
+    private void openCrossing(int tile, int neighbor, boolean vertical) {
+        CellGrid grid = params.grid();
+        int seamRow = vertical ? tileTop(tile) : tileTop(tile) + tileSize;
+        int seamCol = vertical ? tileLeft(tile) + tileSize : tileLeft(tile);
+        int alongRow = vertical ? 1 : 0;
+        int alongCol = vertical ? 0 : 1;
+        int length = vertical ? tileHeight(tile) : tileWidth(tile);
+
+        int chosen = -1;
+        int candidates = 0;
+        for (int offset = 0; offset < length; offset++) {
+            int row = seamRow + offset * alongRow;
+            int col = seamCol + offset * alongCol;
+            if (!grid.isWall(grid.index(row - alongCol, col - alongRow))
+                && !grid.isWall(grid.index(row + alongCol, col + alongRow))
+                && getRandomInt(++candidates) == 0) {
+                chosen = offset;
+            }
+        }
+
+        if (chosen >= 0) {
+            grid.set(seamRow + chosen * alongRow, seamCol + chosen * alongCol, Cell.Type.PASSAGE);
+            return;
+        }
+        int offset = getRandomInt(length);
+        int row = seamRow + offset * alongRow;
+        int col = seamCol + offset * alongCol;
+        grid.set(row, col, Cell.Type.PASSAGE);
+        carveCorridor(row - alongCol, col - alongRow, tileTop(tile), tileLeft(tile));
+        carveCorridor(row + alongCol, col + alongRow, tileTop(neighbor), tileLeft(neighbor));
+    }
+
+    /**
+     * Соединяет начальную или конечную точку с лабиринтом, если она попала на стену
+     * (например, на шов между плитками) и рядом нет проходов.
+     */
+    private void connectEndpoint(Coordinate point) {
+        CellGrid grid = params.grid();
+        if (!grid.isWall(grid.index(point))) {
+            return;
+        }
+        grid.set(point.row(), point.col(), Cell.Type.PASSAGE);
+        for (Direction direction : DIRECTIONS) {
+            int row = point.row() + direction.rowOffset();
+            int col = point.col() + direction.colOffset();
+            if (grid.contains(row, col) && !grid.isWall(grid.index(row, col))) {
+                return;
+            }
+        }
+        int step = tileSize + 1;
+        int tile = Math.min(point.row() / step, tileRows - 1) * tileCols + Math.min(point.col() / step, tileCols - 1);
+        carveCorridor(point.row(), point.col(), tileTop(tile), tileLeft(tile));
+    }
+
+    /**
+     * Прокладывает коридор сначала по строке, затем по столбцу.
+     */
+    private void carveCorridor(int fromRow, int fromCol, int toRow, int toCol) {
+        CellGrid grid = params.grid();
+        for (int col = Math.min(fromCol, toCol); col <= Math.max(fromCol, toCol); col++) {
+            grid.set(fromRow, col, Cell.Type.PASSAGE);
+        }
+        for (int row = Math.min(fromRow, toRow); row <= Math.max(fromRow, toRow); row++) {
+            grid.set(row, toCol, Cell.Type.PASSAGE);
+        }
+    }
+
+    private int tileTop(int tile) {
+        return tile / tileCols * (tileSize + 1);
+    }
+
+    private int tileLeft(int tile) {
+        return tile % tileCols * (tileSize + 1);
+    }
+
+    private int tileHeight(int tile) {
+        return Math.min(tileSize, params.height() - tileTop(tile));
+    }
+
+    private int tileWidth(int tile) {
+        return Math.min(tileSize, params.width() - tileLeft(tile));
+    }
+
+    /**
+     * Задача, делящая диапазон плиток пополам, пока в нем не останется одна плитка.
+     */
+    private static final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient IntConsumer action;
+
+        TileTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(from, middle, action), new TileTask(middle, to, action));
+        }
+    }
+}
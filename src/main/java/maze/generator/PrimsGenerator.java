@@ -1,16 +1,20 @@
 package maze.generator;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
 import maze.model.Cell;
+import maze.model.CellGrid;
 import maze.model.Coordinate;
 import maze.model.Direction;
 import maze.model.Maze;
 
 /**
  * Класс {@code PrimsGenerator} реализует алгоритм Прима для генерации лабиринта.
+ * Граница (стены, которые можно превратить в проход) хранится в {@link IndexedCellSet}, поэтому выбор
+ * случайной граничной ячейки, ее удаление и проверка наличия выполняются за O(1),
+ * и время генерации растет линейно с числом ячеек.
  */
-public class PrimsGenerator extends BaseGenerator {
+public class PrimsGenerator extends BaseGenerator implements TileCarver {
 
     /**
      * Создает экземпляр генератора Прима с заданными координатами старта и конца.
@@ -22,84 +26,120 @@ public class PrimsGenerator extends BaseGenerator {
         super(start, end, height, width);
     }
 
+    /**
+     * Создает экземпляр генератора Прима с заданным зерном, воспроизводящим лабиринт.
+     *
+     * @param start координаты начальной точки лабиринта.
+     * @param end   координаты конечной точки лабиринта.
+     * @param seed  зерно генерации.
+     */
+    public PrimsGenerator(Coordinate start, Coordinate end, int height, int width, long seed) {
+        super(start, end, height, width, seed);
+    }
+
+    /**
+     * Создает экземпляр генератора Прима с заданным зерном и источником случайных чисел.
+     *
+     * @param start         координаты начальной точки лабиринта.
+     * @param end           координаты конечной точки лабиринта.
+     * @param seed          зерно генерации.
+     * @param randomFactory фабрика источника случайных чисел по зерну.
+     */
+    public PrimsGenerator(
+        Coordinate start, Coordinate end, int height, int width,
+        long seed, LongFunction<RandomGenerator> randomFactory
+    ) {
+        super(start, end, height, width, seed, randomFactory);
+    }
+
     /**
      * Генерирует лабиринт заданных размеров.
      *
      * @return сгенерированный лабиринт.
      */
     @Override
-    public Maze generate() {
+    protected Maze build() {
+        carvePassages();
+        addLoops();
+        assignSurfaces();
+        return new Maze(params.grid(), start, end);
+    }
+
+    /**
+     * Прокладывает проходы от начальной точки без циклов и поверхностей.
+     */
+    @Override
+    public CellGrid carvePassages() {
         initializeGrid();
 
-        List<Coordinate> boundaryCoordinates = new ArrayList<>();
-        params.grid()[start.row()][start.col()] = new Cell(start.row(), start.col(), Cell.Type.PASSAGE);
-        params.grid()[end.row()][end.col()] = new Cell(end.row(), end.col(), Cell.Type.PASSAGE);
+        CellGrid grid = params.grid();
+        IndexedCellSet boundaryCells = new IndexedCellSet(grid.size());
+        grid.set(start.row(), start.col(), Cell.Type.PASSAGE);
+        grid.set(end.row(), end.col(), Cell.Type.PASSAGE);
 
-        updateBoundaryCoordinates(start, boundaryCoordinates);
+        updateBoundaryCells(grid.index(start), boundaryCells);
 
-        while (!boundaryCoordinates.isEmpty()) {
-            int randomCoordinate = getRandomInt(boundaryCoordinates.size());
-            Coordinate boundaryCoordinate = boundaryCoordinates.get(randomCoordinate);
+        for (int step = 1; !boundaryCells.isEmpty(); step++) {
+            checkInterrupted(step);
+            int boundaryCell = boundaryCells.removeAt(getRandomInt(boundaryCells.size()));
 
-            if (connectsSingleOrEndPassage(boundaryCoordinate)) {
-                params.grid()[boundaryCoordinate.row()][boundaryCoordinate.col()] =
-                    new Cell(boundaryCoordinate.row(), boundaryCoordinate.col(), determineNonWallSurfaceType());
+            if (connectsSingleOrEndPassage(boundaryCell)) {
+                grid.set(boundaryCell, Cell.Type.PASSAGE);
 
-                updateBoundaryCoordinates(boundaryCoordinate, boundaryCoordinates);
+                updateBoundaryCells(boundaryCell, boundaryCells);
             }
-
-            boundaryCoordinates.remove(randomCoordinate);
         }
-
-        addLoops();
-        return new Maze(params.height(), params.width(), params.grid(), start, end);
+        return grid;
     }
 
     /**
-     * Обновляет список граничных ячеек на основе заданной координаты: если ее нет в списке
-     * и она соединена с одним проходом или конечной точкой.
+     * Добавляет в границу соседние стены заданной ячейки, если их еще нет в границе
+     * и они соединены с одним проходом или конечной точкой.
      *
-     * @param coordinate          координаты для обновления границ.
-     * @param boundaryCoordinates список границ для добавления новых координат.
+     * @param cell          индекс ячейки, соседи которой проверяются.
+     * @param boundaryCells множество граничных ячеек.
      */
-    private void updateBoundaryCoordinates(Coordinate coordinate, List<Coordinate> boundaryCoordinates) {
-        for (Direction direction : Direction.values()) {
-            int row = coordinate.row() + direction.rowOffset();
-            int col = coordinate.col() + direction.colOffset();
-
-            if (isValidCell(row, col, Cell.Type.WALL)) {
-                Coordinate newBoundary = new Coordinate(row, col);
-                if (connectsSingleOrEndPassage(newBoundary)) {
-                    if (!boundaryCoordinates.contains(newBoundary)) {
-                        boundaryCoordinates.add(newBoundary);
-                    }
+    private void updateBoundaryCells(int cell, IndexedCellSet boundaryCells) {
+        int width = params.width();
+        int row = cell / width;
+        int col = cell % width;
+
+        for (Direction direction : DIRECTIONS) {
+            int neighborRow = row + direction.rowOffset();
+            int neighborCol = col + direction.colOffset();
+
+            if (isValidCell(neighborRow, neighborCol, Cell.Type.WALL)) {
+                int neighbor = params.grid().index(neighborRow, neighborCol);
+                if (!boundaryCells.contains(neighbor) && connectsSingleOrEndPassage(neighbor)) {
+                    boundaryCells.add(neighbor);
                 }
             }
         }
     }
 
     /**
-     * Проверяет, соединяет ли указанная координата только один проход или является соседней с конечной точкой.
+     * Проверяет, соединяет ли указанная ячейка только один проход или является соседней с конечной точкой.
      *
-     * @param coordinate координаты для проверки.
-     * @return true, если координата соединяет один проход или является соседом конечной точки; иначе false.
+     * @param cell индекс ячейки для проверки.
+     * @return true, если ячейка соединяет один проход или является соседом конечной точки; иначе false.
      */
-    private boolean connectsSingleOrEndPassage(Coordinate coordinate) {
+    private boolean connectsSingleOrEndPassage(int cell) {
+        CellGrid grid = params.grid();
+        int row = cell / grid.width();
+        int col = cell % grid.width();
         int passageCount = 0;
         boolean isEndNeighbor = false;
 
-        for (Direction direction : Direction.values()) {
-            int row = coordinate.row() + direction.rowOffset();
-            int col = coordinate.col() + direction.colOffset();
+        for (Direction direction : DIRECTIONS) {
+            int neighborRow = row + direction.rowOffset();
+            int neighborCol = col + direction.colOffset();
 
-            if (row == end.row() && col == end.col()) {
+            if (neighborRow == end.row() && neighborCol == end.col()) {
                 isEndNeighbor = true;
                 continue;
             }
 
-            if (isValidCell(row, col, Cell.Type.PASSAGE)
-                || isValidCell(row, col, Cell.Type.DESERT)
-                || isValidCell(row, col, Cell.Type.ROAD)) {
+            if (grid.contains(neighborRow, neighborCol) && !grid.isWall(grid.index(neighborRow, neighborCol))) {
                 passageCount++;
             }
         }
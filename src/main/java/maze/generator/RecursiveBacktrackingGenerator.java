@@ -1,19 +1,21 @@
 package maze.generator;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
 import maze.model.Cell;
+import maze.model.CellGrid;
 import maze.model.Coordinate;
-import maze.model.Direction;
 import maze.model.Maze;
 
 /**
  * Класс {@code RecursiveBacktrackingGenerator} реализует алгоритм рекурсивного возврата для генерации лабиринта.
- * Он использует стек (Deque) для отслеживания посещенных координат и выбирает случайного соседа для создания прохода.
+ * Он использует стек индексов ячеек ({@code int[]}) для отслеживания посещенных ячеек и выбирает случайного соседа
+ * для создания прохода. Подходящие соседи собираются в 4-битную маску направлений, поэтому шаг генерации
+ * не создает объектов.
  */
-public class RecursiveBacktrackingGenerator extends BaseGenerator {
+public class RecursiveBacktrackingGenerator extends BaseGenerator implements TileCarver {
+    private static final int NO_NEIGHBORS = 0;
+
     /**
      * Создает экземпляр генератора рекурсивного возврата с заданными координатами старта и конца.
      *
@@ -24,58 +26,119 @@ public class RecursiveBacktrackingGenerator extends BaseGenerator {
         super(start, end, height, width);
     }
 
+    /**
+     * Создает экземпляр генератора рекурсивного возврата с заданным зерном, воспроизводящим лабиринт.
+     *
+     * @param start координаты начальной точки лабиринта.
+     * @param end   координаты конечной точки лабиринта.
+     * @param seed  зерно генерации.
+     */
+    public RecursiveBacktrackingGenerator(Coordinate start, Coordinate end, int height, int width, long seed) {
+        super(start, end, height, width, seed);
+    }
+
+    /**
+     * Создает экземпляр генератора рекурсивного возврата с заданным зерном и источником случайных чисел.
+     *
+     * @param start         координаты начальной точки лабиринта.
+     * @param end           координаты конечной точки лабиринта.
+     * @param seed          зерно генерации.
+     * @param randomFactory фабрика источника случайных чисел по зерну.
+     */
+    public RecursiveBacktrackingGenerator(
+        Coordinate start, Coordinate end, int height, int width,
+        long seed, LongFunction<RandomGenerator> randomFactory
+    ) {
+        super(start, end, height, width, seed, randomFactory);
+    }
+
     /**
      * Генерирует лабиринт заданных размеров.
      *
      * @return сгенерированный лабиринт.
      */
     @Override
-    public Maze generate() {
+    protected Maze build() {
+        carvePassages();
+        addLoops();
+        assignSurfaces();
+        return new Maze(params.grid(), start, end);
+    }
+
+    /**
+     * Прокладывает проходы от начальной точки без циклов и поверхностей.
+     */
+    @Override
+    public CellGrid carvePassages() {
         initializeGrid();
 
-        Deque<Coordinate> visitedCoordinates = new ArrayDeque<>();
-        visitedCoordinates.push(start);
-        params.grid()[start.row()][start.col()] = new Cell(start.row(), start.col(), Cell.Type.PASSAGE);
+        CellGrid grid = params.grid();
+        int[] visitedCells = new int[grid.size()];
+        int top = 0;
+        visitedCells[top++] = grid.index(start);
+        grid.set(start.row(), start.col(), Cell.Type.PASSAGE);
 
-        while (!visitedCoordinates.isEmpty()) {
-            Coordinate current = visitedCoordinates.peek();
-            List<Coordinate> neighbors = getEligibleNeighbors(current);
+        for (int step = 1; top > 0; step++) {
+            checkInterrupted(step);
+            int current = visitedCells[top - 1];
+            int neighbors = getEligibleNeighbors(current);
 
-            if (!neighbors.isEmpty()) {
-                Coordinate next = neighbors.get(getRandomInt(neighbors.size()));
-                params.grid()[next.row()][next.col()] = new Cell(next.row(), next.col(), determineNonWallSurfaceType());
+            if (neighbors != NO_NEIGHBORS) {
+                int next = neighbor(current, selectRandomDirection(neighbors));
+                grid.set(next, Cell.Type.PASSAGE);
 
-                visitedCoordinates.push(next);
+                visitedCells[top++] = next;
             } else {
-                visitedCoordinates.pop();
+                top--;
             }
         }
 
-        params.grid()[end.row()][end.col()] = new Cell(end.row(), end.col(), Cell.Type.PASSAGE);
-
-        addLoops();
-        return new Maze(params.height(), params.width(), params.grid(), start, end);
+        grid.set(end.row(), end.col(), Cell.Type.PASSAGE);
+        return grid;
     }
 
     /**
-     * Получает список подходящих соседних координат для заданной координаты: действительная координата
-     * с единственным соседним проходом.
+     * Получает маску подходящих соседних ячеек для заданной ячейки: стена внутри сетки
+     * с единственным соседним проходом. Бит {@code i} соответствует направлению {@code DIRECTIONS[i]}.
      *
-     * @param coordinate координаты для получения соседей.
-     * @return список подходящих соседей.
+     * @param cell индекс ячейки для получения соседей.
+     * @return маска подходящих направлений.
      */
-    private List<Coordinate> getEligibleNeighbors(Coordinate coordinate) {
-        List<Coordinate> neighbors = new ArrayList<>();
+    private int getEligibleNeighbors(int cell) {
+        CellGrid grid = params.grid();
+        int row = cell / grid.width();
+        int col = cell - row * grid.width();
+        int mask = NO_NEIGHBORS;
 
-        for (Direction direction : Direction.values()) {
-            int row = coordinate.row() + direction.rowOffset();
-            int col = coordinate.col() + direction.colOffset();
+        for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+            int neighborRow = row + DIRECTIONS[direction].rowOffset();
+            int neighborCol = col + DIRECTIONS[direction].colOffset();
 
-            if (isValidCell(row, col, Cell.Type.WALL) && hasSingleNeighborPassage(row, col)) {
-                neighbors.add(new Coordinate(row, col));
+            if (grid.contains(neighborRow, neighborCol) && grid.isWall(grid.index(neighborRow, neighborCol))
+                && hasSingleNeighborPassage(neighborRow, neighborCol)) {
+                mask |= 1 << direction;
             }
         }
-        return neighbors;
+        return mask;
+    }
+
+    /**
+     * Выбирает случайное направление из маски так же, как выбор случайного элемента списка
+     * подходящих соседей, упорядоченного по {@code DIRECTIONS}.
+     *
+     * @param mask непустая маска направлений.
+     * @return номер выбранного направления.
+     */
+    private int selectRandomDirection(int mask) {
+        int remaining = mask;
+        for (int skip = getRandomInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            remaining &= remaining - 1;
+        }
+        return Integer.numberOfTrailingZeros(remaining);
+    }
+
+    private int neighbor(int cell, int direction) {
+        return cell + DIRECTIONS[direction].rowOffset() * params.width() + DIRECTIONS[direction].colOffset();
     }
 
     /**
@@ -86,15 +149,14 @@ public class RecursiveBacktrackingGenerator extends BaseGenerator {
      * @return true, если ячейка имеет только одного соседнего прохода; иначе false.
      */
     private boolean hasSingleNeighborPassage(int row, int col) {
+        CellGrid grid = params.grid();
         int passageCount = 0;
 
-        for (Direction direction : Direction.values()) {
-            int adjRow = row + direction.rowOffset();
-            int adjCol = col + direction.colOffset();
+        for (int direction = 0; direction < DIRECTIONS.length && passageCount <= 1; direction++) {
+            int adjRow = row + DIRECTIONS[direction].rowOffset();
+            int adjCol = col + DIRECTIONS[direction].colOffset();
 
-            if (isValidCell(adjRow, adjCol, Cell.Type.PASSAGE)
-                || isValidCell(adjRow, adjCol, Cell.Type.ROAD)
-                || isValidCell(adjRow, adjCol, Cell.Type.DESERT)) {
+            if (grid.contains(adjRow, adjCol) && !grid.isWall(grid.index(adjRow, adjCol))) {
                 passageCount++;
             }
         }
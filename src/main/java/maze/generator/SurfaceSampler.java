@@ -0,0 +1,144 @@
+package maze.generator;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+import maze.model.Cell;
+import maze.model.CellGrid;
+
+/**
+ * Класс {@code SurfaceSampler} выбирает тип поверхности прохода по заданному распределению методом псевдонимов
+ * (alias method). Таблица строится один раз, после чего выбор занимает O(1) и не зависит от числа типов:
+ * 32 случайных бита дают столбец таблицы и дробь, которая сравнивается с порогом столбца
+ * (пороги хранятся в 32-битной фиксированной точке). Массовое заполнение берет два выбора из одного
+ * {@code nextLong()}, поэтому поверхности целой строки или сетки назначаются без отдельного обращения
+ * к генератору случайных чисел на каждую ячейку.
+ */
+public final class SurfaceSampler {
+    private static final int FRACTION_BITS = 32;
+    private static final long FRACTION_MASK = 0xFFFFFFFFL;
+    private static final long ALWAYS = 1L << FRACTION_BITS;
+
+    private final Cell.Type[] types;
+    private final Cell.Type[] aliases;
+    private final long[] thresholds;
+
+    /**
+     * Строит таблицу псевдонимов для распределения типов поверхности.
+     *
+     * @param weights веса типов поверхности (неотрицательные, сумма положительна и не больше
+     *                {@link Integer#MAX_VALUE}); стена не может быть поверхностью прохода.
+     */
+    public SurfaceSampler(Map<Cell.Type, Integer> weights) {
+        Map<Cell.Type, Integer> ordered = new EnumMap<>(Cell.Type.class);
+        long total = 0;
+        for (Map.Entry<Cell.Type, Integer> entry : weights.entrySet()) {
+            if (entry.getKey() == Cell.Type.WALL) {
+                throw new IllegalArgumentException("Стена не может быть поверхностью прохода");
+            }
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Вес поверхности не может быть отрицательным");
+            }
+            if (entry.getValue() > 0) {
+                ordered.put(entry.getKey(), entry.getValue());
+                total += entry.getValue();
+            }
+        }
+        if (total == 0 || total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Сумма весов поверхностей должна быть положительной и помещаться в int");
+        }
+
+        this.types = ordered.keySet().toArray(new Cell.Type[0]);
+        this.aliases = types.clone();
+        this.thresholds = new long[types.length];
+        buildTable(ordered, total);
+    }
+
+    /**
+     * Строит таблицу алгоритмом Воуза в целых числах: вместимость каждого столбца равна сумме весов.
+     */
+    private void buildTable(Map<Cell.Type, Integer> ordered, long total) {
+        int columns = types.length;
+        long[] scaled = new long[columns];
+        int[] small = new int[columns];
+        int[] large = new int[columns];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int column = 0; column < columns; column++) {
+            scaled[column] = (long) ordered.get(types[column]) * columns;
+            if (scaled[column] < total) {
+                small[smallCount++] = column;
+            } else {
+                large[largeCount++] = column;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            thresholds[less] = (scaled[less] << FRACTION_BITS) / total;
+            aliases[less] = types[more];
+
+            scaled[more] -= total - scaled[less];
+            if (scaled[more] < total) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        while (largeCount > 0) {
+            thresholds[large[--largeCount]] = ALWAYS;
+        }
+        while (smallCount > 0) {
+            thresholds[small[--smallCount]] = ALWAYS;
+        }
+    }
+
+    /**
+     * Выбирает тип поверхности.
+     *
+     * @param random источник случайных чисел.
+     * @return выбранный тип поверхности.
+     */
+    public Cell.Type sample(RandomGenerator random) {
+        return select(random.nextInt() & FRACTION_MASK);
+    }
+
+    /**
+     * Назначает поверхности всем проходам сетки в диапазоне индексов {@code [from, to)}.
+     * Стены не изменяются.
+     *
+     * @param grid   сетка лабиринта.
+     * @param from   первый индекс диапазона (включительно).
+     * @param to     последний индекс диапазона (не включительно).
+     * @param random источник случайных чисел.
+     */
+    public void fill(CellGrid grid, int from, int to, RandomGenerator random) {
+        long bits = 0;
+        boolean hasSpareHalf = false;
+
+        for (int index = from; index < to; index++) {
+            if (grid.isWall(index)) {
+                continue;
+            }
+            if (hasSpareHalf) {
+                bits >>>= FRACTION_BITS;
+            } else {
+                bits = random.nextLong();
+            }
+            hasSpareHalf = !hasSpareHalf;
+            grid.set(index, select(bits & FRACTION_MASK));
+        }
+    }
+
+    /**
+     * Выбирает тип по 32 случайным битам: старшая часть произведения на число столбцов - столбец,
+     * младшая - дробь для сравнения с порогом.
+     */
+    private Cell.Type select(long randomBits) {
+        long scaled = randomBits * types.length;
+        int column = (int) (scaled >>> FRACTION_BITS);
+        return (scaled & FRACTION_MASK) < thresholds[column] ? types[column] : aliases[column];
+    }
+}
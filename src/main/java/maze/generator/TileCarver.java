@@ -0,0 +1,32 @@
+package maze.generator;
+
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+
+/**
+ * Интерфейс {@code TileCarver} реализуют генераторы, пригодные для генерации по плиткам
+ * ({@link ParallelTiledGenerator}): они умеют прокладывать проходы одной плитки без циклов и поверхностей.
+ */
+public interface TileCarver {
+    /**
+     * Прокладывает проходы без циклов и поверхностей. При совпадающих начальной и конечной точках
+     * все проходы должны быть соединены.
+     *
+     * @return сетка с проложенными проходами
+     */
+    CellGrid carvePassages();
+
+    /**
+     * Создает генератор плитки; подходят конструкторы генераторов с зерном и источником случайных чисел,
+     * например {@code PrimsGenerator::new}.
+     */
+    @FunctionalInterface
+    interface Factory {
+        TileCarver create(
+            Coordinate start, Coordinate end, int height, int width,
+            long seed, LongFunction<RandomGenerator> randomFactory
+        );
+    }
+}
@@ -0,0 +1,193 @@
+package maze.io;
+
+import com.beust.jcommander.IStringConverter;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+import java.nio.file.Path;
+import lombok.Getter;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.solver.MazeSolverAlgorithm;
+
+/**
+ * Параметры неинтерактивных режимов, разбираемые JCommander: пакетного запуска и HTTP-сервера ({@code --serve}).
+ * Если старт или финиш не заданы, используются левый верхний и правый нижний углы лабиринта.
+ */
+@Getter
+public class BatchOptions {
+    private static final int MINIMUM_SIZE = 3;
+    private static final int MAX_PORT = 65_535;
+
+    @Parameter(names = {"--generator", "-g"}, description = "Алгоритм генерации")
+    private MazeGenerator generator = MazeGenerator.PRIMS;
+
+    @Parameter(names = {"--solver", "-s"}, description = "Алгоритм поиска пути")
+    private MazeSolverAlgorithm solver = MazeSolverAlgorithm.ASTAR;
+
+    @Parameter(names = "--height", description = "Высота лабиринта")
+    private int height;
+
+    @Parameter(names = "--width", description = "Ширина лабиринта")
+    private int width;
+
+    @Parameter(names = "--start", description = "Начальная точка в виде 'строка,столбец'",
+        converter = CoordinateConverter.class)
+    private Coordinate start;
+
+    @Parameter(names = "--end", description = "Конечная точка в виде 'строка,столбец'",
+        converter = CoordinateConverter.class)
+    private Coordinate end;
+
+    @Parameter(names = "--tile-size",
+        description = "Генерировать параллельно по плиткам заданного размера (0 - без плиток)")
+    private int tileSize = MazeGenerator.UNTILED;
+
+    @Parameter(names = "--seed", description = "Зерно первого запуска; запуск i использует seed + i")
+    private Long seed;
+
+    @Parameter(names = {"--count", "-n"}, description = "Количество лабиринтов")
+    private int count = 1;
+
+    @Parameter(names = {"--format", "-f"}, description = "Формат сохранения лабиринтов")
+    private OutputFormat format = OutputFormat.NONE;
+
+    @Parameter(names = {"--output", "-o"}, description = "Каталог для сохранения лабиринтов")
+    private Path output = Path.of(".");
+
+    @Parameter(names = "--serve", description = "Запустить HTTP-сервер на указанном порту вместо пакетного запуска")
+    private Integer serve;
+
+    @Parameter(names = "--bind", description = "Адрес, на котором HTTP-сервер принимает запросы")
+    private String bind = "127.0.0.1";
+
+    @Parameter(names = "--max-cells", description = "Максимальное количество клеток лабиринта в задании сервера")
+    private long maxCells = 16_000_000;
+
+    @Parameter(names = "--max-jobs", description = "Максимальное количество одновременных заданий сервера")
+    private int maxJobs = 256;
+
+    @Parameter(names = "--timeout", description = "Время на одно задание сервера, мс")
+    private long timeout = 30_000;
+
+    @Parameter(names = "--maze-cache-mb", description = "Объем кэша лабиринтов сервера, МБ (0 - без кэша)")
+    private long mazeCacheMegabytes = 256;
+
+    @Parameter(names = "--path-cache-mb", description = "Объем кэша путей сервера, МБ")
+    private long pathCacheMegabytes = 64;
+
+    @Parameter(names = "--help", description = "Показать справку", help = true)
+    private boolean help;
+
+    /**
+     * Формат сохранения сгенерированных лабиринтов.
+     */
+    public enum OutputFormat {
+        /**
+         * Лабиринты не сохраняются, выводится только статистика.
+         */
+        NONE(""),
+        /**
+         * Текстовая визуализация с путем.
+         */
+        TEXT("txt"),
+        /**
+         * Изображение PGM с путем.
+         */
+        PGM("pgm"),
+        /**
+         * Изображение PPM с путем.
+         */
+        PPM("ppm"),
+        /**
+         * Изображение PNG с путем.
+         */
+        PNG("png"),
+        /**
+         * Двоичный формат {@link MazeFile}.
+         */
+        BINARY("maze");
+
+        /**
+         * Расширение имени файла.
+         */
+        @Getter
+        private final String extension;
+
+        OutputFormat(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * Возвращает начальную точку с учетом значения по умолчанию.
+     *
+     * @return начальная точка
+     */
+    public Coordinate start() {
+        return start != null ? start : new Coordinate(0, 0);
+    }
+
+    /**
+     * Возвращает конечную точку с учетом значения по умолчанию.
+     *
+     * @return конечная точка
+     */
+    public Coordinate end() {
+        return end != null ? end : new Coordinate(height - 1, width - 1);
+    }
+
+    /**
+     * Проверяет согласованность параметров.
+     *
+     * @throws ParameterException если параметры некорректны
+     */
+    public void validate() {
+        if (serve != null) {
+            if (serve < 0 || serve > MAX_PORT) {
+                throw new ParameterException("Некорректный порт: " + serve);
+            }
+            if (maxJobs <= 0 || timeout <= 0 || maxCells <= 0) {
+                throw new ParameterException("Лимиты заданий, клеток и время выполнения должны быть положительными");
+            }
+            if (mazeCacheMegabytes < 0 || pathCacheMegabytes < 0) {
+                throw new ParameterException("Объем кэша не может быть отрицательным");
+            }
+            return;
+        }
+        if (height < MINIMUM_SIZE || width < MINIMUM_SIZE) {
+            throw new ParameterException("Размеры лабиринта должны быть не меньше " + MINIMUM_SIZE);
+        }
+        if (count <= 0) {
+            throw new ParameterException("Количество лабиринтов должно быть положительным");
+        }
+        if (tileSize < 0 || (tileSize != MazeGenerator.UNTILED && generator.tileCarver().isEmpty())) {
+            throw new ParameterException("Некорректный размер плитки для алгоритма " + generator + ": " + tileSize);
+        }
+        checkInside(start(), "--start");
+        checkInside(end(), "--end");
+    }
+
+    private void checkInside(Coordinate coordinate, String name) {
+        if (coordinate.row() < 0 || coordinate.row() >= height || coordinate.col() < 0 || coordinate.col() >= width) {
+            throw new ParameterException(name + " находится вне лабиринта: " + coordinate);
+        }
+    }
+
+    /**
+     * Преобразует строку вида {@code строка,столбец} в координату.
+     */
+    public static final class CoordinateConverter implements IStringConverter<Coordinate> {
+        @Override
+        public Coordinate convert(String value) {
+            String[] parts = value.split(",");
+            if (parts.length != 2) {
+                throw new ParameterException("Ожидались координаты в виде 'строка,столбец': " + value);
+            }
+            try {
+                return new Coordinate(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                throw new ParameterException("Некорректные координаты: " + value, e);
+            }
+        }
+    }
+}
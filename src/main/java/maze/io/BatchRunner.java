@@ -0,0 +1,116 @@
+package maze.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.LongSummaryStatistics;
+import java.util.concurrent.ThreadLocalRandom;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.Solver;
+
+/**
+ * Класс {@code BatchRunner} выполняет пакетный режим: генерирует и решает заданное количество лабиринтов
+ * подряд без вопросов пользователю, выводит время каждого запуска и итоговую статистику.
+ * Запуск {@code i} использует зерно {@code seed + i}, поэтому любой запуск можно воспроизвести отдельно.
+ */
+public class BatchRunner {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final BatchOptions options;
+    private final PrintStream out;
+
+    /**
+     * Создает исполнитель пакетного режима.
+     *
+     * @param options проверенные параметры запуска
+     * @param out     поток для вывода статистики
+     */
+    public BatchRunner(BatchOptions options, PrintStream out) {
+        this.options = options;
+        this.out = out;
+    }
+
+    /**
+     * Выполняет все запуски.
+     *
+     * @throws IOException если не удалось сохранить лабиринт
+     */
+    public void run() throws IOException {
+        Coordinate start = options.start();
+        Coordinate end = options.end();
+        long firstSeed = options.seed() != null ? options.seed() : ThreadLocalRandom.current().nextLong();
+        Solver solver = options.solver().create();
+        if (options.format() != BatchOptions.OutputFormat.NONE) {
+            Files.createDirectories(options.output());
+        }
+
+        LongSummaryStatistics generation = new LongSummaryStatistics();
+        LongSummaryStatistics solving = new LongSummaryStatistics();
+        int solved = 0;
+        long batchStart = System.nanoTime();
+        for (int run = 0; run < options.count(); run++) {
+            long seed = firstSeed + run;
+            long generationStart = System.nanoTime();
+            Maze maze = options.generator()
+                .create(start, end, options.height(), options.width(), seed, options.tileSize())
+                .generate();
+            long solvingStart = System.nanoTime();
+            List<Coordinate> path = solver.solve(maze, start, end);
+            long solvingEnd = System.nanoTime();
+
+            generation.accept(solvingStart - generationStart);
+            solving.accept(solvingEnd - solvingStart);
+            if (!path.isEmpty()) {
+                solved++;
+            }
+            out.println(String.format(Locale.ROOT, "%d\tseed=%d\tgenerate=%.3f ms\tsolve=%.3f ms\tpath=%d",
+                run, seed, millis(solvingStart - generationStart), millis(solvingEnd - solvingStart), path.size()));
+            save(run, seed, maze, path);
+        }
+        long elapsed = System.nanoTime() - batchStart;
+
+        out.println(String.format(Locale.ROOT, "runs=%d\tsolved=%d\ttotal=%.3f ms\tthroughput=%.2f mazes/s",
+            options.count(), solved, millis(elapsed), options.count() * NANOS_PER_SECOND / elapsed));
+        printStatistics("generate", generation);
+        printStatistics("solve", solving);
+    }
+
+    private void printStatistics(String stage, LongSummaryStatistics statistics) {
+        out.println(String.format(Locale.ROOT, "%s\tmin=%.3f ms\tavg=%.3f ms\tmax=%.3f ms", stage,
+            millis(statistics.getMin()), statistics.getAverage() / NANOS_PER_MILLI, millis(statistics.getMax())));
+    }
+
+    private void save(int run, long seed, Maze maze, List<Coordinate> path) throws IOException {
+        BatchOptions.OutputFormat format = options.format();
+        if (format == BatchOptions.OutputFormat.NONE) {
+            return;
+        }
+        Path file = options.output().resolve("maze-" + run + "." + format.extension());
+        if (format == BatchOptions.OutputFormat.BINARY) {
+            // Лабиринт по плиткам не восстанавливается по алгоритму и зерну, поэтому они не сохраняются.
+            if (options.tileSize() == MazeGenerator.UNTILED) {
+                MazeFile.save(file, maze, seed, options.generator());
+            } else {
+                MazeFile.save(file, maze);
+            }
+            return;
+        }
+        StreamRenderer renderer = format == BatchOptions.OutputFormat.TEXT
+            ? new MazeTextRenderer()
+            : new MazeImageRenderer(MazeImageRenderer.Format.valueOf(format.name()));
+        try (OutputStream stream = Files.newOutputStream(file)) {
+            renderer.render(maze, path, stream);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
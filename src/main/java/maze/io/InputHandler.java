@@ -4,18 +4,17 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.Getter;
 import maze.generator.MazeGenerationAlgorithm;
 import maze.generator.MazeGenerator;
-import maze.generator.PrimsGenerator;
-import maze.generator.RecursiveBacktrackingGenerator;
+import maze.generator.ParallelTiledGenerator;
 import maze.model.Coordinate;
 import maze.model.Maze;
-import maze.solver.AStarSolver;
-import maze.solver.DijkstraSolver;
 import maze.solver.MazeSolverAlgorithm;
 import maze.solver.Solver;
 
@@ -29,6 +28,9 @@ public class InputHandler {
     private static final String NUMERIC_REGEX = "\\d+";
     private static final int MINIMUM_SIZE = 3;
     private static final String NULL_EXCEPTION = "Значение не может быть null";
+    private static final String NO_PATH = "Путь между точками не найден";
+    private static final int VIEWPORT_ROWS = 30;
+    private static final int VIEWPORT_COLS = 40;
 
     private final PrintStream out;
     private final BufferedReader in;
@@ -39,6 +41,7 @@ public class InputHandler {
     @Getter private Coordinate end;
 
     @Getter private MazeGenerator generatorType;
+    @Getter private int tileSize;
     @Getter private MazeSolverAlgorithm solverType;
 
     /**
@@ -60,6 +63,8 @@ public class InputHandler {
     public void run() throws IOException {
         boolean continueGenerating = true;
         MazeTextRenderer renderer = new MazeTextRenderer();
+        MazeViewport viewport =
+            new MazeViewport(new OutputStreamWriter(out, StandardCharsets.UTF_8), VIEWPORT_ROWS, VIEWPORT_COLS);
 
         while (continueGenerating) {
             help();
@@ -71,11 +76,10 @@ public class InputHandler {
             Maze maze = generator.generate();
             List<Coordinate> path = solver.solve(maze, start, end);
 
-            out.println(renderer.render(maze) + '\n');
-            if (path.isEmpty()) {
-                out.println("Путь между точками не найден");
+            if (viewport.fits(maze)) {
+                printWhole(renderer, maze, path);
             } else {
-                out.println(renderer.render(maze, path));
+                browse(viewport, maze, path);
             }
 
             continueGenerating = shouldContinue();
@@ -83,6 +87,55 @@ public class InputHandler {
 
     }
 
+    private void printWhole(MazeTextRenderer renderer, Maze maze, List<Coordinate> path) throws IOException {
+        renderer.render(maze, List.of(), out);
+        out.println();
+        out.println();
+        if (path.isEmpty()) {
+            out.println(NO_PATH);
+        } else {
+            renderer.render(maze, path, out);
+            out.println();
+        }
+    }
+
+    /**
+     * Показывает лабиринт, не помещающийся на экране, через окно просмотра. Окно открывается на старте,
+     * пользователь сдвигает его командами, при этом перерисовываются только изменившиеся клетки.
+     *
+     * @param viewport окно просмотра
+     * @param maze     лабиринт
+     * @param path     найденный путь
+     * @throws IOException если произошла ошибка ввода-вывода
+     */
+    private void browse(MazeViewport viewport, Maze maze, List<Coordinate> path) throws IOException {
+        viewport.show(maze, path, start);
+        while (true) {
+            if (path.isEmpty()) {
+                out.println(NO_PATH);
+            }
+            out.println("Лабиринт не помещается на экране: w/a/s/d - сдвиг окна, 'старт'/'финиш' - переход,"
+                + " 'Enter' - завершить просмотр:");
+            String input = in.readLine();
+            if (input == null) {
+                throw new IllegalArgumentException(NULL_EXCEPTION);
+            }
+
+            switch (input.trim().toLowerCase()) {
+                case "" -> {
+                    return;
+                }
+                case "w" -> viewport.scroll(-VIEWPORT_ROWS / 2, 0);
+                case "s" -> viewport.scroll(VIEWPORT_ROWS / 2, 0);
+                case "a" -> viewport.scroll(0, -VIEWPORT_COLS / 2);
+                case "d" -> viewport.scroll(0, VIEWPORT_COLS / 2);
+                case "старт" -> viewport.center(start);
+                case "финиш" -> viewport.center(end);
+                default -> out.println("Неизвестная команда");
+            }
+        }
+    }
+
     /**
      * Запрашивает у пользователя, хочет ли он сгенерировать новый лабиринт.
      *
@@ -130,6 +183,10 @@ public class InputHandler {
         start = getValidCoordinate("Введите координаты старта, нумерация с 0 ('строка столбец'):");
         end = getValidCoordinate("Введите координаты финиша, нумерация с 0 ('строка столбец'):");
         generatorType = selectGeneratorAndSolver("Выберите алгоритм генерации лабиринта:", MazeGenerator.values());
+        tileSize = generatorType.tileCarver().isPresent()
+            && Math.max(height, width) > ParallelTiledGenerator.DEFAULT_TILE_SIZE
+            ? getTileSize()
+            : MazeGenerator.UNTILED;
         solverType = selectGeneratorAndSolver("Выберите алгоритм нахождения пути:", MazeSolverAlgorithm.values());
     }
 
@@ -172,7 +229,7 @@ public class InputHandler {
      */
     private <T extends Enum<T>> T selectGeneratorAndSolver(String message, T[] enums) throws IOException {
         out.println(message);
-        for (int i = 0; i < MazeGenerator.values().length; i++) {
+        for (int i = 0; i < enums.length; i++) {
             out.println((i + 1) + SEPARATOR + enums[i].name().toLowerCase());
         }
 
@@ -192,18 +249,37 @@ public class InputHandler {
         }
     }
 
+    /**
+     * Предлагает для большого лабиринта параллельную генерацию по плиткам.
+     *
+     * @return размер плитки или {@link MazeGenerator#UNTILED}
+     * @throws IOException если произошла ошибка ввода-вывода
+     */
+    private int getTileSize() throws IOException {
+        out.println("Введите размер плитки для параллельной генерации или нажмите 'Enter' для обычной генерации:");
+        while (true) {
+            String input = in.readLine();
+            if (input == null) {
+                throw new IllegalArgumentException(NULL_EXCEPTION);
+            }
+            input = input.trim();
+
+            if (input.isEmpty()) {
+                return MazeGenerator.UNTILED;
+            }
+            if (input.matches(NUMERIC_REGEX)) {
+                return Integer.parseInt(input);
+            }
+            out.println("Некорректный размер плитки, введите целое число или нажмите 'Enter':");
+        }
+    }
+
     private MazeGenerationAlgorithm getGenerator() {
-        return switch (generatorType) {
-            case PRIMS -> new PrimsGenerator(start, end, height, width);
-            case RECURSIVE_BACKTRACKER -> new RecursiveBacktrackingGenerator(start, end, height, width);
-        };
+        return generatorType.create(start, end, height, width, ThreadLocalRandom.current().nextLong(), tileSize);
     }
 
     private Solver getSolver() {
-        return switch (solverType) {
-            case ASTAR -> new AStarSolver();
-            case DIJKSTRA -> new DijkstraSolver();
-        };
+        return solverType.create();
     }
 
     /**
@@ -0,0 +1,43 @@
+package maze.io;
+
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import maze.model.Cell;
+import maze.model.Grid;
+
+/**
+ * Сетка лабиринта только для чтения поверх тела файла {@link MazeFile}, отображенного в память.
+ * Тип ячейки декодируется из упакованных двух бит при каждом обращении, поэтому открытие файла
+ * не копирует и не распаковывает данные, а страницы файла подгружаются операционной системой по мере обхода.
+ */
+@Getter
+public final class MappedGrid implements Grid {
+    private static final Cell.Type[] TYPES = Cell.Type.values();
+    private static final int WALL = Cell.Type.WALL.ordinal();
+
+    private final int height;
+    private final int width;
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer body;
+
+    MappedGrid(ByteBuffer body, int height, int width) {
+        this.body = body;
+        this.height = height;
+        this.width = width;
+    }
+
+    ByteBuffer body() {
+        return body;
+    }
+
+    @Override
+    public Cell.Type type(int index) {
+        return TYPES[MazeFile.cellAt(body, index)];
+    }
+
+    @Override
+    public boolean isWall(int index) {
+        return MazeFile.cellAt(body, index) == WALL;
+    }
+}
@@ -0,0 +1,280 @@
+package maze.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.OptionalLong;
+import lombok.experimental.UtilityClass;
+import maze.generator.MazeGenerator;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Grid;
+import maze.model.Maze;
+
+/**
+ * Класс {@code MazeFile} сохраняет и загружает лабиринты в компактном двоичном формате.
+ * Файл состоит из заголовка фиксированного размера {@link #HEADER_SIZE} байт (порядок байтов big-endian):
+ * <pre>
+ * 0  int   сигнатура "MAZE"
+ * 4  short версия формата ({@link #VERSION})
+ * 6  byte  флаги (бит 0 - зерно известно)
+ * 7  byte  генератор ({@link MazeGenerator#id()} или -1, если неизвестен)
+ * 8  int   высота, 12 int ширина
+ * 16 int   строка старта, 20 int столбец старта
+ * 24 int   строка финиша, 28 int столбец финиша
+ * 32 long  зерно генерации
+ * 40       зарезервировано
+ * </pre>
+ * и тела, в котором каждая клетка занимает 2 бита (порядковый номер {@link Cell.Type}), по четыре клетки
+ * в байте начиная с младших битов. Файл читается и пишется через {@link FileChannel#map}.
+ * {@link #map(Path)} открывает лабиринт без копирования: {@link MappedGrid} декодирует ячейки прямо из
+ * отображения и передается решателям как {@link Grid}. {@link #load(Path)} распаковывает тело в изменяемую
+ * сетку {@link CellGrid} таблицей по байту целиком.
+ */
+@UtilityClass
+public class MazeFile {
+    public static final int HEADER_SIZE = 48;
+    public static final short VERSION = 1;
+
+    private static final int MAGIC = 0x4D415A45;
+    private static final int FLAG_SEED = 1;
+    private static final int NO_GENERATOR = -1;
+    private static final int BITS_PER_CELL = 2;
+    private static final int CELLS_PER_BYTE = Byte.SIZE / BITS_PER_CELL;
+    private static final int CELL_MASK = (1 << BITS_PER_CELL) - 1;
+    private static final int BYTE_VALUES = 1 << Byte.SIZE;
+    private static final byte[] DECODED = buildDecodeTable();
+    private static final String INVALID_FORMAT = "Файл не является лабиринтом в поддерживаемом формате: ";
+
+    /**
+     * Заголовок файла лабиринта.
+     *
+     * @param version   версия формата
+     * @param height    высота лабиринта
+     * @param width     ширина лабиринта
+     * @param start     начальная точка
+     * @param end       конечная точка
+     * @param seed      зерно генерации, если известно
+     * @param generator алгоритм генерации, если известен
+     */
+    public record Header(
+        int version, int height, int width, Coordinate start, Coordinate end,
+        OptionalLong seed, Optional<MazeGenerator> generator
+    ) {
+    }
+
+    /**
+     * Лабиринт, отображенный из файла без копирования.
+     *
+     * @param header заголовок файла
+     * @param grid   сетка, читающая ячейки из отображения
+     */
+    public record Mapped(Header header, MappedGrid grid) {
+    }
+
+    /**
+     * Сохраняет лабиринт без сведений о генерации.
+     *
+     * @param path путь к файлу
+     * @param maze лабиринт
+     * @throws IOException если произошла ошибка записи
+     */
+    public static void save(Path path, Maze maze) throws IOException {
+        write(path, maze, OptionalLong.empty(), Optional.empty());
+    }
+
+    /**
+     * Сохраняет лабиринт вместе с зерном и алгоритмом, которыми он был получен.
+     *
+     * @param path      путь к файлу
+     * @param maze      лабиринт
+     * @param seed      зерно генерации
+     * @param generator алгоритм генерации
+     * @throws IOException если произошла ошибка записи
+     */
+    public static void save(Path path, Maze maze, long seed, MazeGenerator generator) throws IOException {
+        write(path, maze, OptionalLong.of(seed), Optional.of(generator));
+    }
+
+    /**
+     * Читает только заголовок файла.
+     *
+     * @param path путь к файлу
+     * @return заголовок
+     * @throws IOException если файл не удалось прочитать или он имеет неверный формат
+     */
+    public static Header readHeader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(INVALID_FORMAT + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            return readHeader(buffer, path);
+        }
+    }
+
+    /**
+     * Загружает лабиринт из файла в изменяемую сетку; тело файла при этом распаковывается в память.
+     *
+     * @param path путь к файлу
+     * @return лабиринт
+     * @throws IOException если файл не удалось прочитать или он имеет неверный формат
+     */
+    public static Maze load(Path path) throws IOException {
+        Mapped mapped = map(path);
+        Header header = mapped.header();
+        CellGrid grid = new CellGrid(header.height(), header.width());
+        decodeBody(mapped.grid().body(), grid);
+        return new Maze(grid, header.start(), header.end());
+    }
+
+    /**
+     * Отображает файл лабиринта в память без копирования и распаковки.
+     * Отображение остается действительным после возврата из метода и освобождается вместе с сеткой.
+     *
+     * @param path путь к файлу
+     * @return заголовок и сетка только для чтения, которую можно передать решателю
+     * @throws IOException если файл не удалось прочитать или он имеет неверный формат
+     */
+    public static Mapped map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(INVALID_FORMAT + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Header header = readHeader(buffer, path);
+            long bodySize = bodySize(header.height() * header.width());
+            if (channel.size() != HEADER_SIZE + bodySize) {
+                throw new IOException(INVALID_FORMAT + path);
+            }
+            ByteBuffer body = buffer.slice(HEADER_SIZE, (int) bodySize);
+            return new Mapped(header, new MappedGrid(body, header.height(), header.width()));
+        }
+    }
+
+    /**
+     * Возвращает порядковый номер типа ячейки из упакованного тела.
+     *
+     * @param body  тело файла
+     * @param index индекс ячейки
+     * @return порядковый номер {@link Cell.Type}
+     */
+    static int cellAt(ByteBuffer body, int index) {
+        int packed = body.get(index / CELLS_PER_BYTE);
+        return (packed >> (index % CELLS_PER_BYTE * BITS_PER_CELL)) & CELL_MASK;
+    }
+
+    private static void write(Path path, Maze maze, OptionalLong seed, Optional<MazeGenerator> generator)
+        throws IOException {
+        CellGrid grid = maze.grid();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_SIZE + bodySize(grid.size()));
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .put((byte) (seed.isPresent() ? FLAG_SEED : 0))
+                .put((byte) generator.map(MazeGenerator::id).orElse(NO_GENERATOR).intValue())
+                .putInt(grid.height())
+                .putInt(grid.width())
+                .putInt(maze.start().row())
+                .putInt(maze.start().col())
+                .putInt(maze.end().row())
+                .putInt(maze.end().col())
+                .putLong(seed.orElse(0));
+            buffer.position(HEADER_SIZE);
+            encodeBody(grid, buffer);
+            buffer.force();
+        }
+    }
+
+    private static Header readHeader(ByteBuffer buffer, Path path) throws IOException {
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException(INVALID_FORMAT + path);
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Неподдерживаемая версия формата лабиринта " + version + ": " + path);
+        }
+        int flags = buffer.get();
+        int generator = buffer.get();
+        int height = buffer.getInt();
+        int width = buffer.getInt();
+        Coordinate start = new Coordinate(buffer.getInt(), buffer.getInt());
+        Coordinate end = new Coordinate(buffer.getInt(), buffer.getInt());
+        long seed = buffer.getLong();
+        Optional<MazeGenerator> algorithm = MazeGenerator.byId(generator);
+        if (height <= 0 || width <= 0 || (long) height * width > Integer.MAX_VALUE
+            || (generator != NO_GENERATOR && algorithm.isEmpty())
+            || !inside(start, height, width) || !inside(end, height, width)) {
+            throw new IOException(INVALID_FORMAT + path);
+        }
+
+        return new Header(
+            version, height, width, start, end,
+            (flags & FLAG_SEED) != 0 ? OptionalLong.of(seed) : OptionalLong.empty(),
+            algorithm
+        );
+    }
+
+    private static boolean inside(Coordinate coordinate, int height, int width) {
+        return coordinate.row() >= 0 && coordinate.row() < height && coordinate.col() >= 0 && coordinate.col() < width;
+    }
+
+    private static long bodySize(int cells) {
+        return (cells + CELLS_PER_BYTE - 1L) / CELLS_PER_BYTE;
+    }
+
+    /**
+     * Упаковывает клетки по четыре в байт.
+     */
+    private static void encodeBody(CellGrid grid, ByteBuffer buffer) {
+        byte[] cells = grid.cells();
+        int index = 0;
+        while (index < cells.length) {
+            int packed = 0;
+            for (int slot = 0; slot < CELLS_PER_BYTE && index < cells.length; slot++, index++) {
+                packed |= cells[index] << (slot * BITS_PER_CELL);
+            }
+            buffer.put((byte) packed);
+        }
+    }
+
+    /**
+     * Распаковывает тело в сетку: каждый байт заменяется четырьмя заранее вычисленными номерами типов.
+     */
+    private static void decodeBody(ByteBuffer body, CellGrid grid) {
+        ByteBuffer buffer = body.duplicate();
+        byte[] cells = grid.cells();
+        int fullBytes = cells.length / CELLS_PER_BYTE;
+        int index = 0;
+        for (int i = 0; i < fullBytes; i++, index += CELLS_PER_BYTE) {
+            int packed = Byte.toUnsignedInt(buffer.get());
+            System.arraycopy(DECODED, packed * CELLS_PER_BYTE, cells, index, CELLS_PER_BYTE);
+        }
+        if (index < cells.length) {
+            int packed = buffer.get();
+            for (int slot = 0; index < cells.length; slot++, index++) {
+                cells[index] = (byte) ((packed >> (slot * BITS_PER_CELL)) & CELL_MASK);
+            }
+        }
+    }
+
+    private static byte[] buildDecodeTable() {
+        byte[] table = new byte[BYTE_VALUES * CELLS_PER_BYTE];
+        for (int value = 0; value < BYTE_VALUES; value++) {
+            for (int slot = 0; slot < CELLS_PER_BYTE; slot++) {
+                table[value * CELLS_PER_BYTE + slot] = (byte) ((value >> (slot * BITS_PER_CELL)) & CELL_MASK);
+            }
+        }
+        return table;
+    }
+}
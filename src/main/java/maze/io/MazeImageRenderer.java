@@ -0,0 +1,434 @@
+package maze.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import maze.generator.MazeRowConsumer;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+
+/**
+ * Класс {@code MazeImageRenderer} выводит лабиринт изображением в формате PGM, PPM или PNG.
+ * Изображение формируется по одной строке пикселей: для PNG строки сразу сжимаются потоковым
+ * {@link Deflater} и записываются блоками {@code IDAT}, поэтому объем памяти зависит только от ширины
+ * лабиринта. Как и в текстовом виде, лабиринт обводится рамкой из стен, а каждая клетка занимает
+ * квадрат {@code scale x scale} пикселей.
+ */
+public class MazeImageRenderer implements StreamRenderer {
+    private static final int PATH = Cell.Type.values().length;
+    private static final int START = PATH + 1;
+    private static final int END = PATH + 2;
+    private static final int WALL = Cell.Type.WALL.ordinal();
+    private static final int WALL_COLOR = 0xFFFFFF;
+    private static final int PASSAGE_COLOR = 0x000000;
+    private static final int DESERT_COLOR = 0xE0C080;
+    private static final int ROAD_COLOR = 0x606060;
+    private static final int PATH_COLOR = 0x00C000;
+    private static final int ENDPOINT_COLOR = 0xD00000;
+    private static final int[] COLORS = buildColors();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_LINE_BYTES = Integer.MAX_VALUE - 16;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int RED_SHIFT = 16;
+    private static final int GREEN_SHIFT = 8;
+    private static final int RED_WEIGHT = 299;
+    private static final int GREEN_WEIGHT = 587;
+    private static final int BLUE_WEIGHT = 114;
+    private static final int WEIGHT_TOTAL = RED_WEIGHT + GREEN_WEIGHT + BLUE_WEIGHT;
+    private static final int RGB_CHANNELS = 3;
+    private static final byte[] PNG_SIGNATURE = {
+        (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+    private static final int PNG_BIT_DEPTH = 8;
+    private static final int PNG_TRUECOLOR = 2;
+    private static final int PNG_HEADER_SIZE = 13;
+    private static final int CHUNK_OVERHEAD = 12;
+
+    private final Format format;
+    private final int scale;
+
+    /**
+     * Формат изображения.
+     */
+    public enum Format {
+        /**
+         * Двоичный PGM ({@code P5}), оттенки серого.
+         */
+        PGM,
+        /**
+         * Двоичный PPM ({@code P6}), цвета RGB.
+         */
+        PPM,
+        /**
+         * PNG в цветах RGB со сжатием deflate.
+         */
+        PNG
+    }
+
+    /**
+     * Создает визуализатор, в котором каждая клетка занимает один пиксель.
+     *
+     * @param format формат изображения
+     */
+    public MazeImageRenderer(Format format) {
+        this(format, 1);
+    }
+
+    /**
+     * Создает визуализатор с заданным масштабом.
+     *
+     * @param format формат изображения
+     * @param scale  размер стороны клетки в пикселях
+     */
+    public MazeImageRenderer(Format format, int scale) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("Масштаб должен быть положительным");
+        }
+        this.format = format;
+        this.scale = scale;
+    }
+
+    private static int[] buildColors() {
+        int[] colors = new int[END + 1];
+        colors[Cell.Type.WALL.ordinal()] = WALL_COLOR;
+        colors[Cell.Type.PASSAGE.ordinal()] = PASSAGE_COLOR;
+        colors[Cell.Type.DESERT.ordinal()] = DESERT_COLOR;
+        colors[Cell.Type.ROAD.ordinal()] = ROAD_COLOR;
+        colors[PATH] = PATH_COLOR;
+        colors[START] = ENDPOINT_COLOR;
+        colors[END] = ENDPOINT_COLOR;
+        return colors;
+    }
+
+    /**
+     * Построчно записывает изображение лабиринта в канал.
+     *
+     * @param maze лабиринт для отображения
+     * @param path список координат, представляющий путь в лабиринте
+     * @param out  канал для записи
+     * @throws IOException если произошла ошибка записи
+     */
+    @Override
+    public void render(Maze maze, List<Coordinate> path, WritableByteChannel out) throws IOException {
+        CellGrid grid = maze.grid();
+        byte[] cells = grid.cells();
+        int width = grid.width();
+        int startIndex = grid.index(maze.start());
+        int endIndex = grid.index(maze.end());
+        BitSet marked = MazeTextRenderer.markPath(grid, path);
+
+        ImageStream image = new ImageStream(out, grid.height(), width);
+        image.writeBorder();
+        for (int rowStart = 0; rowStart < cells.length; rowStart += width) {
+            image.put(WALL);
+            for (int index = rowStart; index < rowStart + width; index++) {
+                if (index == startIndex) {
+                    image.put(START);
+                } else if (index == endIndex) {
+                    image.put(END);
+                } else if (marked.get(index)) {
+                    image.put(PATH);
+                } else {
+                    image.put(cells[index]);
+                }
+            }
+            image.put(WALL);
+            image.endLine();
+        }
+        image.writeBorder();
+        image.finish();
+    }
+
+    /**
+     * Открывает запись изображения, строки которого поступают от потокового генератора,
+     * например {@link maze.generator.EllersGenerator#generate(MazeRowConsumer)}.
+     * Сам лабиринт при этом в памяти не хранится. Строки должны поступать по порядку, ровно {@code height}
+     * штук, после последней строки запись нужно закрыть; канал при закрытии не закрывается.
+     * Если строк пришло меньше, закрытие завершается ошибкой и изображение не дописывается.
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param start  начальная точка
+     * @param end    конечная точка
+     * @param out    канал для записи
+     * @return получатель строк лабиринта
+     * @throws IOException если не удалось записать заголовок изображения
+     */
+    public RowWriter open(int height, int width, Coordinate start, Coordinate end, WritableByteChannel out)
+        throws IOException {
+        return new RowWriter(new ImageStream(out, height, width), height, width, start, end);
+    }
+
+    /**
+     * Получатель строк лабиринта, записывающий их в изображение.
+     * Ошибки записи внутри {@link #accept} оборачиваются в {@link UncheckedIOException},
+     * строка не по порядку, сверх высоты или другой ширины отклоняется {@link IllegalStateException}.
+     */
+    public static final class RowWriter implements MazeRowConsumer, Closeable {
+        private final ImageStream image;
+        private final int height;
+        private final int width;
+        private final Coordinate start;
+        private final Coordinate end;
+        private int rows;
+
+        private RowWriter(ImageStream image, int height, int width, Coordinate start, Coordinate end)
+            throws IOException {
+            this.image = image;
+            this.height = height;
+            this.width = width;
+            this.start = start;
+            this.end = end;
+            image.writeBorder();
+        }
+
+        @Override
+        public void accept(int row, CellGrid cells) {
+            if (row != rows || row >= height) {
+                throw new IllegalStateException("Строка " + row + " пришла не по порядку или за пределами высоты");
+            }
+            if (cells.width() != width) {
+                throw new IllegalStateException("Ширина строки " + row + ": " + cells.width() + " вместо " + width);
+            }
+            rows++;
+            byte[] types = cells.cells();
+            try {
+                image.put(WALL);
+                for (int col = 0; col < types.length; col++) {
+                    image.put(symbolAt(row, col, types[col]));
+                }
+                image.put(WALL);
+                image.endLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int symbolAt(int row, int col, int type) {
+            if (row == start.row() && col == start.col()) {
+                return START;
+            }
+            if (row == end.row() && col == end.col()) {
+                return END;
+            }
+            return type;
+        }
+
+        /**
+         * Дописывает нижнюю рамку и завершает изображение.
+         *
+         * @throws IOException           если произошла ошибка записи
+         * @throws IllegalStateException если получено меньше {@code height} строк
+         */
+        @Override
+        public void close() throws IOException {
+            if (rows != height) {
+                image.abort();
+                throw new IllegalStateException("Получено строк: " + rows + " из " + height);
+            }
+            image.writeBorder();
+            image.finish();
+        }
+    }
+
+    /**
+     * Строка пикселей изображения и способ ее вывода в выбранном формате.
+     * Каждая строка лабиринта повторяется {@code scale} раз.
+     */
+    private final class ImageStream {
+        private final WritableByteChannel out;
+        private final int channels;
+        private final int pixelWidth;
+        private final int offset;
+        private final byte[] line;
+        private final Deflater deflater;
+        private final ChunkStream chunks;
+        private final DeflaterOutputStream compressed;
+        private int position;
+
+        ImageStream(WritableByteChannel out, int height, int width) throws IOException {
+            this.out = out;
+            this.channels = format == Format.PGM ? 1 : RGB_CHANNELS;
+            this.offset = format == Format.PNG ? 1 : 0;
+            long lineBytes = ((long) width + 2) * scale * channels + offset;
+            long pixelHeight = ((long) height + 2) * scale;
+            if (lineBytes > MAX_LINE_BYTES || pixelHeight > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Изображение слишком велико: " + height + "x" + width);
+            }
+            this.pixelWidth = (width + 2) * scale;
+            this.line = new byte[(int) lineBytes];
+            this.position = offset;
+
+            if (format == Format.PNG) {
+                deflater = new Deflater(Deflater.BEST_SPEED);
+                chunks = new ChunkStream(out);
+                compressed = new DeflaterOutputStream(chunks, deflater, BUFFER_SIZE);
+                writePngHeader((int) pixelHeight);
+            } else {
+                deflater = null;
+                chunks = null;
+                compressed = null;
+                String magic = format == Format.PGM ? "P5" : "P6";
+                String header = magic + "\n" + pixelWidth + " " + pixelHeight + "\n255\n";
+                writeFully(out, ByteBuffer.wrap(header.getBytes(StandardCharsets.US_ASCII)));
+            }
+        }
+
+        private void writePngHeader(int pixelHeight) throws IOException {
+            writeFully(out, ByteBuffer.wrap(PNG_SIGNATURE));
+            ByteBuffer header = ByteBuffer.allocate(PNG_HEADER_SIZE)
+                .putInt(pixelWidth)
+                .putInt(pixelHeight)
+                .put((byte) PNG_BIT_DEPTH)
+                .put((byte) PNG_TRUECOLOR)
+                .put((byte) 0)
+                .put((byte) 0)
+                .put((byte) 0);
+            writeChunk(out, "IHDR", header.array(), header.position());
+        }
+
+        void put(int symbol) {
+            int color = COLORS[symbol];
+            if (channels == 1) {
+                byte gray = (byte) luminance(color);
+                for (int i = 0; i < scale; i++) {
+                    line[position++] = gray;
+                }
+                return;
+            }
+            byte red = (byte) (color >>> RED_SHIFT);
+            byte green = (byte) (color >>> GREEN_SHIFT);
+            byte blue = (byte) color;
+            for (int i = 0; i < scale; i++) {
+                line[position++] = red;
+                line[position++] = green;
+                line[position++] = blue;
+            }
+        }
+
+        void writeBorder() throws IOException {
+            for (int pixel = 0; pixel < pixelWidth; pixel += scale) {
+                put(WALL);
+            }
+            endLine();
+        }
+
+        /**
+         * Выводит накопленную строку пикселей {@code scale} раз. Для PNG первый байт строки
+         * остается нулевым: фильтр {@code None}.
+         */
+        void endLine() throws IOException {
+            for (int i = 0; i < scale; i++) {
+                if (compressed != null) {
+                    compressed.write(line);
+                } else {
+                    writeFully(out, ByteBuffer.wrap(line));
+                }
+            }
+            position = offset;
+        }
+
+        void finish() throws IOException {
+            if (compressed == null) {
+                return;
+            }
+            try {
+                compressed.finish();
+                chunks.flushChunk();
+                writeChunk(out, "IEND", new byte[0], 0);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        /**
+         * Освобождает ресурсы без завершения изображения.
+         */
+        void abort() {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Накапливает сжатые данные и выводит их блоками {@code IDAT} размером не более {@link #BUFFER_SIZE}.
+     */
+    private static final class ChunkStream extends OutputStream {
+        private final WritableByteChannel out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int size;
+
+        ChunkStream(WritableByteChannel out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            if (size == buffer.length) {
+                flushChunk();
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        @Override
+        public void write(byte[] bytes, int from, int length) throws IOException {
+            int written = 0;
+            while (written < length) {
+                if (size == buffer.length) {
+                    flushChunk();
+                }
+                int count = Math.min(length - written, buffer.length - size);
+                System.arraycopy(bytes, from + written, buffer, size, count);
+                size += count;
+                written += count;
+            }
+        }
+
+        void flushChunk() throws IOException {
+            if (size > 0) {
+                writeChunk(out, "IDAT", buffer, size);
+                size = 0;
+            }
+        }
+    }
+
+    private static int luminance(int color) {
+        int red = (color >>> RED_SHIFT) & BYTE_MASK;
+        int green = (color >>> GREEN_SHIFT) & BYTE_MASK;
+        int blue = color & BYTE_MASK;
+        return (RED_WEIGHT * red + GREEN_WEIGHT * green + BLUE_WEIGHT * blue) / WEIGHT_TOTAL;
+    }
+
+    private static void writeChunk(WritableByteChannel out, String type, byte[] data, int length)
+        throws IOException {
+        byte[] name = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(name);
+        crc.update(data, 0, length);
+        ByteBuffer chunk = ByteBuffer.allocate(length + CHUNK_OVERHEAD)
+            .putInt(length)
+            .put(name)
+            .put(data, 0, length)
+            .putInt((int) crc.getValue());
+        chunk.flip();
+        writeFully(out, chunk);
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package maze.io;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR о потоковой визуализации лабиринта; длительность события - время записи.
+ */
+@Name("maze.MazeRendered")
+@Label("Maze Rendered")
+@Category("Maze")
+@Description("Визуализация лабиринта")
+@StackTrace(false)
+final class MazeRenderedEvent extends Event {
+    @Label("Height")
+    int height;
+
+    @Label("Width")
+    int width;
+
+    @Label("Format")
+    String format;
+
+    @Label("Parallelism")
+    int parallelism;
+
+    @Label("Bytes Written")
+    @Description("Объем записанных данных при записи в канал")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("Characters Written")
+    @Description("Количество символов, записанных в Writer")
+    long charsWritten;
+}
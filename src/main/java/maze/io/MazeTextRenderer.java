@@ -1,14 +1,31 @@
 package maze.io;
 
-import java.util.HashSet;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import lombok.Setter;
 import maze.model.Cell;
+import maze.model.CellGrid;
 import maze.model.Coordinate;
 import maze.model.Maze;
 
 /**
  * Класс {@code MazeTextRenderer} отвечает за текстовую визуализацию лабиринта.
+ * Лабиринт выводится построчно через буфер фиксированного размера, поэтому потоковые варианты
+ * {@code render} используют постоянный объем памяти независимо от размеров лабиринта.
+ * При {@code parallelism > 1} запись в канал идет полосами строк: полосы кодируются в UTF-8 одновременно
+ * в {@link ForkJoinPool}, каждая в свой заранее выделенный буфер, и затем записываются по порядку
+ * одной записью {@link GatheringByteChannel}. Память при этом ограничена {@code parallelism} буферами.
+ * Потоковые варианты {@code render} публикуют событие JFR {@link MazeRenderedEvent}, если запись включена.
  */
 public class MazeTextRenderer implements Renderer {
     private final static String PASSAGE_SYMBOL = "⬛️";
@@ -19,6 +36,60 @@ public class MazeTextRenderer implements Renderer {
     private final static String END_SYMBOL = "🏁";
     private final static String START_SYMBOL = "🏁";
 
+    /**
+     * Номера служебных символов; номера символов клеток совпадают с порядковыми номерами {@link Cell.Type}.
+     */
+    static final int WALL = Cell.Type.WALL.ordinal();
+    static final int PATH = Cell.Type.values().length;
+    static final int START = PATH + 1;
+    static final int END = PATH + 2;
+    private static final int NEWLINE = PATH + 3;
+    static final String[] SYMBOLS = buildSymbols();
+    private static final byte[][] ENCODED_SYMBOLS = encodeSymbols();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BAND_BUFFER_SIZE = 4 * 1024 * 1024;
+    private static final int MAX_SYMBOL_BYTES = maxSymbolBytes();
+
+    /**
+     * Количество полос, кодируемых параллельно при записи в канал (по умолчанию 1 - последовательный режим).
+     */
+    @Setter
+    private int parallelism = 1;
+
+    /**
+     * Пул потоков для параллельного режима (по умолчанию общий пул).
+     */
+    @Setter
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    private static String[] buildSymbols() {
+        String[] symbols = new String[NEWLINE + 1];
+        for (Cell.Type type : Cell.Type.values()) {
+            symbols[type.ordinal()] = getCellSymbol(type);
+        }
+        symbols[PATH] = PATH_SYMBOL;
+        symbols[START] = START_SYMBOL;
+        symbols[END] = END_SYMBOL;
+        symbols[NEWLINE] = "\n";
+        return symbols;
+    }
+
+    private static byte[][] encodeSymbols() {
+        byte[][] encoded = new byte[SYMBOLS.length][];
+        for (int symbol = 0; symbol < SYMBOLS.length; symbol++) {
+            encoded[symbol] = SYMBOLS[symbol].getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    private static int maxSymbolBytes() {
+        int max = 0;
+        for (byte[] symbol : ENCODED_SYMBOLS) {
+            max = Math.max(max, symbol.length);
+        }
+        return max;
+    }
+
     /**
      * Возвращает строку с описанием символов клеток.
      *
@@ -42,7 +113,7 @@ public class MazeTextRenderer implements Renderer {
      */
     @Override
     public String render(Maze maze) {
-        return renderMaze(maze, new HashSet<>());
+        return render(maze, List.of());
     }
 
     /**
@@ -54,43 +125,288 @@ public class MazeTextRenderer implements Renderer {
      */
     @Override
     public String render(Maze maze, List<Coordinate> path) {
-        return renderMaze(maze, new HashSet<>(path));
-    }
-
-    private String renderMaze(Maze maze, Set<Coordinate> path) {
-        StringBuilder result = new StringBuilder();
-        int height = maze.grid().length;
-        int width = maze.grid()[0].length;
-        result.append(WALL_SYMBOL.repeat(width + 2)).append('\n');
-
-        for (int row = 0; row < height; row++) {
-            result.append(WALL_SYMBOL);
-            for (int col = 0; col < width; col++) {
-                Coordinate current = new Coordinate(row, col);
-                if (current.equals(maze.start())) {
-                    result.append(START_SYMBOL);
-                } else if (current.equals(maze.end())) {
-                    result.append(END_SYMBOL);
-                } else if (path.contains(current)) {
-                    result.append(PATH_SYMBOL);
-                } else {
-                    result.append(getCellSymbol(maze.grid()[row][col]));
+        StringWriter result = new StringWriter();
+        try {
+            render(maze, path, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Построчно записывает визуализацию лабиринта в {@link Writer} через буфер фиксированного размера.
+     *
+     * @param maze лабиринт для отображения
+     * @param path список координат, представляющий путь в лабиринте
+     * @param out  получатель символов
+     * @throws IOException если произошла ошибка записи
+     */
+    @Override
+    public void render(Maze maze, List<Coordinate> path, Writer out) throws IOException {
+        MazeRenderedEvent event = new MazeRenderedEvent();
+        event.begin();
+        CharSink sink = new CharSink(out);
+        renderLines(maze, markPath(maze.grid(), path), 0, maze.grid().height() + 2, sink);
+        sink.flush();
+        event.end();
+        if (event.shouldCommit()) {
+            event.charsWritten = sink.written;
+            commit(event, maze, 1);
+        }
+    }
+
+    /**
+     * Построчно записывает визуализацию лабиринта в канал в кодировке UTF-8.
+     * Символы клеток закодированы заранее, запись идет через буфер фиксированного размера,
+     * а при {@code parallelism > 1} - полосами, закодированными параллельно.
+     *
+     * @param maze лабиринт для отображения
+     * @param path список координат, представляющий путь в лабиринте
+     * @param out  канал для записи
+     * @throws IOException если произошла ошибка записи
+     */
+    @Override
+    public void render(Maze maze, List<Coordinate> path, WritableByteChannel out) throws IOException {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Параллелизм должен быть положительным");
+        }
+        MazeRenderedEvent event = new MazeRenderedEvent();
+        event.begin();
+        BitSet marked = markPath(maze.grid(), path);
+        long written;
+        if (parallelism > 1) {
+            written = renderBands(maze, marked, out);
+        } else {
+            ByteSink sink = new ByteSink(out);
+            renderLines(maze, marked, 0, maze.grid().height() + 2, sink);
+            sink.flush();
+            written = sink.written;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytesWritten = written;
+            commit(event, maze, parallelism);
+        }
+    }
+
+    /**
+     * Заполняет и публикует событие JFR о визуализации.
+     */
+    private static void commit(MazeRenderedEvent event, Maze maze, int parallelism) {
+        event.height = maze.height();
+        event.width = maze.width();
+        event.format = "text";
+        event.parallelism = parallelism;
+        event.commit();
+    }
+
+    /**
+     * Отмечает клетки пути в битовом множестве, индексированном как {@code row * width + col}.
+     * Координаты вне сетки игнорируются.
+     */
+    static BitSet markPath(CellGrid grid, List<Coordinate> path) {
+        BitSet marked = new BitSet(grid.size());
+        for (Coordinate coordinate : path) {
+            if (grid.contains(coordinate.row(), coordinate.col())) {
+                marked.set(grid.index(coordinate));
+            }
+        }
+        return marked;
+    }
+
+    /**
+     * Выводит строки визуализации с {@code fromLine} по {@code toLine} (не включая): строка 0 и строка
+     * {@code height + 1} - рамка из стен, остальные - строки лабиринта. Символ клетки выбирается
+     * по индексу без создания объектов: старт и финиш сравниваются по индексу, путь проверяется
+     * в битовом множестве, тип клетки читается из массива сетки.
+     */
+    private void renderLines(Maze maze, BitSet path, int fromLine, int toLine, SymbolSink sink)
+        throws IOException {
+        CellGrid grid = maze.grid();
+        byte[] cells = grid.cells();
+        int width = grid.width();
+        int lastLine = grid.height() + 1;
+        int startIndex = grid.index(maze.start());
+        int endIndex = grid.index(maze.end());
+
+        for (int line = fromLine; line < toLine; line++) {
+            if (line == 0 || line == lastLine) {
+                writeBorder(sink, width);
+            } else {
+                int rowStart = (line - 1) * width;
+                sink.put(WALL);
+                for (int index = rowStart; index < rowStart + width; index++) {
+                    if (index == startIndex) {
+                        sink.put(START);
+                    } else if (index == endIndex) {
+                        sink.put(END);
+                    } else if (path.get(index)) {
+                        sink.put(PATH);
+                    } else {
+                        sink.put(cells[index]);
+                    }
                 }
+                sink.put(WALL);
+            }
+            if (line != lastLine) {
+                sink.put(NEWLINE);
             }
-            result.append(WALL_SYMBOL).append('\n');
         }
+    }
 
-        result.append(WALL_SYMBOL.repeat(width + 2));
+    /**
+     * Записывает визуализацию раундами: за раунд {@code parallelism} полос строк кодируются параллельно,
+     * каждая в свой буфер размером не больше {@link #BAND_BUFFER_SIZE}, после чего буферы записываются по порядку.
+     * Размер буфера рассчитан на самый длинный символ, поэтому полоса всегда в него помещается.
+     *
+     * @return количество записанных байтов
+     */
+    private long renderBands(Maze maze, BitSet path, WritableByteChannel out) throws IOException {
+        int lines = maze.grid().height() + 2;
+        int lineBytes = (maze.grid().width() + 2) * MAX_SYMBOL_BYTES + 1;
+        int evenBand = (lines + parallelism - 1) / parallelism;
+        int bandLines = Math.max(1, Math.min(evenBand, BAND_BUFFER_SIZE / lineBytes));
+        ByteBuffer[] buffers = new ByteBuffer[parallelism];
+        for (int band = 0; band < parallelism; band++) {
+            buffers[band] = ByteBuffer.allocate(bandLines * lineBytes);
+        }
 
-        return result.toString();
+        long written = 0;
+        for (int first = 0; first < lines; first += bandLines * parallelism) {
+            int bands = Math.min(parallelism, (lines - first + bandLines - 1) / bandLines);
+            RecursiveAction[] tasks = new RecursiveAction[bands];
+            for (int band = 0; band < bands; band++) {
+                int fromLine = first + band * bandLines;
+                int toLine = Math.min(lines, fromLine + bandLines);
+                ByteBuffer buffer = buffers[band].clear();
+                tasks[band] = new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        try {
+                            renderLines(maze, path, fromLine, toLine, symbol -> buffer.put(ENCODED_SYMBOLS[symbol]));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        buffer.flip();
+                    }
+                };
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+            for (int band = 0; band < bands; band++) {
+                written += buffers[band].remaining();
+            }
+            writeInOrder(out, buffers, bands);
+        }
+        return written;
+    }
+
+    private static void writeInOrder(WritableByteChannel out, ByteBuffer[] buffers, int count) throws IOException {
+        if (out instanceof GatheringByteChannel gathering) {
+            while (buffers[count - 1].hasRemaining()) {
+                gathering.write(buffers, 0, count);
+            }
+            return;
+        }
+        for (int band = 0; band < count; band++) {
+            while (buffers[band].hasRemaining()) {
+                out.write(buffers[band]);
+            }
+        }
     }
 
-    private String getCellSymbol(Cell cell) {
-        return switch (cell.type()) {
+    private void writeBorder(SymbolSink sink, int width) throws IOException {
+        for (int col = 0; col < width + 2; col++) {
+            sink.put(WALL);
+        }
+    }
+
+    private static String getCellSymbol(Cell.Type type) {
+        return switch (type) {
             case PASSAGE -> PASSAGE_SYMBOL;
             case WALL -> WALL_SYMBOL;
             case ROAD -> ROAD_SYMBOL;
             case DESERT -> DESERT_SYMBOL;
         };
     }
+
+    /**
+     * Получатель символов визуализации по их номерам.
+     */
+    private interface SymbolSink {
+        void put(int symbol) throws IOException;
+    }
+
+    /**
+     * Записывает символы в {@link Writer} через буфер {@code char[]} фиксированного размера.
+     */
+    private static final class CharSink implements SymbolSink {
+        private final Writer out;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private long written;
+
+        CharSink(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void put(int symbol) throws IOException {
+            String text = SYMBOLS[symbol];
+            if (position + text.length() > buffer.length) {
+                out.write(buffer, 0, position);
+                written += position;
+                position = 0;
+            }
+            text.getChars(0, text.length(), buffer, position);
+            position += text.length();
+        }
+
+        void flush() throws IOException {
+            out.write(buffer, 0, position);
+            written += position;
+            position = 0;
+            out.flush();
+        }
+    }
+
+    /**
+     * Записывает заранее закодированные в UTF-8 символы в канал через {@link ByteBuffer} фиксированного размера.
+     */
+    private static final class ByteSink implements SymbolSink {
+        private final WritableByteChannel out;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long written;
+
+        ByteSink(WritableByteChannel out) {
+            this.out = out;
+        }
+
+        @Override
+        public void put(int symbol) throws IOException {
+            byte[] bytes = ENCODED_SYMBOLS[symbol];
+            if (buffer.remaining() < bytes.length) {
+                drain();
+            }
+            buffer.put(bytes);
+        }
+
+        void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            written += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
 }
@@ -0,0 +1,185 @@
+package maze.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import lombok.Getter;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+
+/**
+ * Класс {@code MazeViewport} выводит в терминал только окно лабиринта заданного размера.
+ * Окно задается смещением в координатах текстовой визуализации (с рамкой из стен, поэтому
+ * клетка {@code (row, col)} лабиринта находится в строке {@code row + 1} и столбце {@code col + 1}).
+ * Последний выведенный кадр запоминается, и при сдвиге окна перерисовываются только изменившиеся
+ * клетки: курсор переставляется ANSI-последовательностями, а весь кадр отправляется одной записью.
+ * Символы клеток совпадают с символами {@link MazeTextRenderer} и считаются шириной в два столбца терминала.
+ */
+public class MazeViewport {
+    private static final String ESCAPE = "\u001B[";
+    private static final String CLEAR_SCREEN = ESCAPE + "H" + ESCAPE + "2J";
+    private static final String CLEAR_BELOW = ESCAPE + "J";
+    private static final int SYMBOL_COLUMNS = 2;
+    private static final int UNKNOWN = -1;
+
+    private final Writer out;
+    private final int rows;
+    private final int cols;
+    private final int[] frame;
+
+    private Maze maze;
+    private BitSet path;
+    private int startIndex;
+    private int endIndex;
+
+    /**
+     * Верхняя строка окна в координатах визуализации.
+     */
+    @Getter
+    private int top;
+
+    /**
+     * Левый столбец окна в координатах визуализации.
+     */
+    @Getter
+    private int left;
+
+    /**
+     * Создает окно просмотра.
+     *
+     * @param out  получатель вывода терминала
+     * @param rows высота окна в клетках
+     * @param cols ширина окна в клетках
+     */
+    public MazeViewport(Writer out, int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Размеры окна должны быть положительными");
+        }
+        this.out = out;
+        this.rows = rows;
+        this.cols = cols;
+        this.frame = new int[rows * cols];
+    }
+
+    /**
+     * Проверяет, помещается ли визуализация лабиринта в окно целиком.
+     *
+     * @param maze лабиринт
+     * @return true, если окно не нужно прокручивать
+     */
+    public boolean fits(Maze maze) {
+        return maze.grid().height() + 2 <= rows && maze.grid().width() + 2 <= cols;
+    }
+
+    /**
+     * Показывает лабиринт с путем, центрируя окно на заданной клетке. Экран очищается и кадр выводится целиком.
+     *
+     * @param maze   лабиринт
+     * @param route  путь в лабиринте
+     * @param center клетка лабиринта в центре окна
+     * @throws IOException если произошла ошибка записи
+     */
+    public void show(Maze maze, List<Coordinate> route, Coordinate center) throws IOException {
+        CellGrid grid = maze.grid();
+        this.maze = maze;
+        this.path = MazeTextRenderer.markPath(grid, route);
+        this.startIndex = grid.index(maze.start());
+        this.endIndex = grid.index(maze.end());
+        Arrays.fill(frame, UNKNOWN);
+        StringBuilder output = new StringBuilder(CLEAR_SCREEN);
+        place(center.row() + 1 - rows / 2, center.col() + 1 - cols / 2);
+        draw(output);
+    }
+
+    /**
+     * Центрирует окно на клетке лабиринта, перерисовывая только изменившиеся клетки.
+     *
+     * @param center клетка лабиринта в центре окна
+     * @throws IOException если произошла ошибка записи
+     */
+    public void center(Coordinate center) throws IOException {
+        moveTo(center.row() + 1 - rows / 2, center.col() + 1 - cols / 2);
+    }
+
+    /**
+     * Сдвигает окно, перерисовывая только изменившиеся клетки.
+     *
+     * @param rowShift сдвиг по строкам
+     * @param colShift сдвиг по столбцам
+     * @throws IOException если произошла ошибка записи
+     */
+    public void scroll(int rowShift, int colShift) throws IOException {
+        moveTo(top + rowShift, left + colShift);
+    }
+
+    private void moveTo(int row, int col) throws IOException {
+        if (maze == null) {
+            throw new IllegalStateException("Лабиринт еще не показан");
+        }
+        place(row, col);
+        draw(new StringBuilder());
+    }
+
+    /**
+     * Устанавливает смещение окна, не давая ему выйти за пределы визуализации.
+     */
+    private void place(int row, int col) {
+        top = Math.max(0, Math.min(row, maze.grid().height() + 2 - rows));
+        left = Math.max(0, Math.min(col, maze.grid().width() + 2 - cols));
+    }
+
+    /**
+     * Сравнивает новый кадр с предыдущим и выводит только отличающиеся клетки. Курсор переставляется
+     * лишь в начале каждой непрерывной последовательности изменений, после кадра он возвращается под окно.
+     */
+    private void draw(StringBuilder output) throws IOException {
+        int visibleRows = Math.min(rows, maze.grid().height() + 2);
+        int visibleCols = Math.min(cols, maze.grid().width() + 2);
+        for (int row = 0; row < visibleRows; row++) {
+            boolean cursorInPlace = false;
+            for (int col = 0; col < visibleCols; col++) {
+                int symbol = symbolAt(top + row, left + col);
+                int slot = row * cols + col;
+                if (frame[slot] == symbol) {
+                    cursorInPlace = false;
+                    continue;
+                }
+                if (!cursorInPlace) {
+                    moveCursor(output, row, col * SYMBOL_COLUMNS);
+                    cursorInPlace = true;
+                }
+                output.append(MazeTextRenderer.SYMBOLS[symbol]);
+                frame[slot] = symbol;
+            }
+        }
+        moveCursor(output, visibleRows, 0);
+        output.append(CLEAR_BELOW);
+        out.append(output);
+        out.flush();
+    }
+
+    private static void moveCursor(StringBuilder output, int row, int col) {
+        output.append(ESCAPE).append(row + 1).append(';').append(col + 1).append('H');
+    }
+
+    /**
+     * Возвращает номер символа клетки в координатах визуализации.
+     */
+    private int symbolAt(int line, int column) {
+        CellGrid grid = maze.grid();
+        if (line == 0 || column == 0 || line == grid.height() + 1 || column == grid.width() + 1) {
+            return MazeTextRenderer.WALL;
+        }
+        int index = grid.index(line - 1, column - 1);
+        if (index == startIndex) {
+            return MazeTextRenderer.START;
+        }
+        if (index == endIndex) {
+            return MazeTextRenderer.END;
+        }
+        return path.get(index) ? MazeTextRenderer.PATH : grid.cells()[index];
+    }
+}
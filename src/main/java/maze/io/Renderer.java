@@ -1,14 +1,20 @@
 package maze.io;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import maze.model.Coordinate;
 import maze.model.Maze;
 
 /**
- * Интерфейс {@code Renderer} определяет методы для визуализации лабиринта.
+ * Интерфейс {@code Renderer} определяет методы для визуализации лабиринта текстом.
+ * Кроме построения строки, визуализацию можно потоково записать в {@link Writer}
+ * или, как у любого {@link StreamRenderer}, в поток байтов. Потоковые методы не закрывают получателя.
  */
-public interface Renderer {
+public interface Renderer extends StreamRenderer {
     String render(Maze maze);
 
     String render(Maze maze, List<Coordinate> path);
+
+    void render(Maze maze, List<Coordinate> path, Writer out) throws IOException;
 }
@@ -0,0 +1,31 @@
+package maze.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import maze.model.Coordinate;
+import maze.model.Maze;
+
+/**
+ * Интерфейс {@code StreamRenderer} определяет потоковую запись визуализации лабиринта в байтах:
+ * в {@link WritableByteChannel} или {@link OutputStream}, не собирая ее целиком в памяти.
+ * Его реализуют и текстовый, и графический визуализаторы. Методы не закрывают получателя.
+ */
+public interface StreamRenderer {
+    void render(Maze maze, List<Coordinate> path, WritableByteChannel out) throws IOException;
+
+    /**
+     * Записывает визуализацию лабиринта в поток байтов.
+     *
+     * @param maze лабиринт для отображения
+     * @param path список координат, представляющий путь в лабиринте
+     * @param out  поток для записи
+     * @throws IOException если произошла ошибка записи
+     */
+    default void render(Maze maze, List<Coordinate> path, OutputStream out) throws IOException {
+        render(maze, path, Channels.newChannel(out));
+        out.flush();
+    }
+}
@@ -0,0 +1,172 @@
+package maze.model;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Компактная сетка лабиринта: тип каждой ячейки хранится одним байтом (порядковый номер {@link Cell.Type})
+ * в одномерном массиве, индексируемом как {@code row * width + col}.
+ * Новая сетка целиком состоит из стен, так как {@code WALL} имеет нулевой порядковый номер.
+ */
+@Getter
+public final class CellGrid implements Grid {
+    private static final Cell.Type[] TYPES = Cell.Type.values();
+
+    private final int height;
+    private final int width;
+    private final byte[] cells;
+
+    /**
+     * Создает сетку заданных размеров, заполненную стенами.
+     *
+     * @param height высота сетки
+     * @param width  ширина сетки
+     */
+    public CellGrid(int height, int width) {
+        if (height <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Размеры сетки должны быть положительными");
+        }
+        if ((long) height * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Сетка слишком велика: " + height + "x" + width);
+        }
+        this.height = height;
+        this.width = width;
+        this.cells = new byte[height * width];
+    }
+
+    /**
+     * Создает сетку из двумерного массива ячеек.
+     *
+     * @param grid двумерный массив ячеек
+     * @return компактная сетка с теми же типами ячеек
+     */
+    public static CellGrid of(Cell[][] grid) {
+        CellGrid result = new CellGrid(grid.length, grid[0].length);
+        for (int row = 0; row < result.height; row++) {
+            for (int col = 0; col < result.width; col++) {
+                result.set(row, col, grid[row][col].type());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает количество ячеек в сетке.
+     *
+     * @return произведение высоты на ширину
+     */
+    @Override
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * Вычисляет линейный индекс ячейки.
+     *
+     * @param row строка ячейки
+     * @param col столбец ячейки
+     * @return индекс {@code row * width + col}
+     */
+    @Override
+    public int index(int row, int col) {
+        return row * width + col;
+    }
+
+    /**
+     * Вычисляет линейный индекс координаты.
+     *
+     * @param coordinate координата ячейки
+     * @return индекс {@code row * width + col}
+     */
+    @Override
+    public int index(Coordinate coordinate) {
+        return index(coordinate.row(), coordinate.col());
+    }
+
+    /**
+     * Проверяет, находится ли позиция внутри сетки.
+     *
+     * @param row строка ячейки
+     * @param col столбец ячейки
+     * @return {@code true}, если позиция внутри сетки
+     */
+    @Override
+    public boolean contains(int row, int col) {
+        return row >= 0 && row < height && col >= 0 && col < width;
+    }
+
+    /**
+     * Возвращает тип ячейки по линейному индексу.
+     *
+     * @param index индекс ячейки
+     * @return тип ячейки
+     */
+    @Override
+    public Cell.Type type(int index) {
+        return TYPES[cells[index]];
+    }
+
+    /**
+     * Возвращает тип ячейки по строке и столбцу.
+     *
+     * @param row строка ячейки
+     * @param col столбец ячейки
+     * @return тип ячейки
+     */
+    @Override
+    public Cell.Type type(int row, int col) {
+        return type(index(row, col));
+    }
+
+    /**
+     * Проверяет, является ли ячейка стеной.
+     *
+     * @param index индекс ячейки
+     * @return {@code true}, если ячейка - стена
+     */
+    @Override
+    public boolean isWall(int index) {
+        return cells[index] == 0;
+    }
+
+    /**
+     * Устанавливает тип ячейки по линейному индексу.
+     *
+     * @param index индекс ячейки
+     * @param type  новый тип ячейки
+     */
+    public void set(int index, Cell.Type type) {
+        cells[index] = (byte) type.ordinal();
+    }
+
+    /**
+     * Устанавливает тип ячейки по строке и столбцу.
+     *
+     * @param row  строка ячейки
+     * @param col  столбец ячейки
+     * @param type новый тип ячейки
+     */
+    public void set(int row, int col, Cell.Type type) {
+        set(index(row, col), type);
+    }
+
+    /**
+     * Заполняет всю сетку ячейками одного типа.
+     *
+     * @param type тип ячеек
+     */
+    public void fill(Cell.Type type) {
+        Arrays.fill(cells, (byte) type.ordinal());
+    }
+
+    /**
+     * Возвращает представление ячейки в виде {@link Cell} для совместимости со старым API.
+     *
+     * @param row строка ячейки
+     * @param col столбец ячейки
+     * @return ячейка с координатами и типом
+     */
+    public Cell cell(int row, int col) {
+        return new Cell(row, col, type(row, col));
+    }
+}
@@ -0,0 +1,79 @@
+package maze.model;
+
+/**
+ * Интерфейс {@code Grid} - доступ только для чтения к сетке лабиринта по линейным индексам
+ * {@code row * width + col}. Реализации: {@link CellGrid} в памяти и сетки, читающие ячейки прямо из файла.
+ */
+public interface Grid {
+    int height();
+
+    int width();
+
+    /**
+     * Возвращает количество ячеек в сетке.
+     *
+     * @return произведение высоты на ширину
+     */
+    default int size() {
+        return height() * width();
+    }
+
+    /**
+     * Вычисляет линейный индекс ячейки.
+     *
+     * @param row строка ячейки
+     * @param col столбец ячейки
+     * @return индекс {@code row * width + col}
+     */
+    default int index(int row, int col) {
+        return row * width() + col;
+    }
+
+    /**
+     * Вычисляет линейный индекс координаты.
+     *
+     * @param coordinate координата ячейки
+     * @return индекс {@code row * width + col}
+     */
+    default int index(Coordinate coordinate) {
+        return index(coordinate.row(), coordinate.col());
+    }
+
+    /**
+     * Проверяет, находится ли позиция внутри сетки.
+     *
+     * @param row строка ячейки
+     * @param col столбец ячейки
+     * @return {@code true}, если позиция внутри сетки
+     */
+    default boolean contains(int row, int col) {
+        return row >= 0 && row < height() && col >= 0 && col < width();
+    }
+
+    /**
+     * Возвращает тип ячейки по линейному индексу.
+     *
+     * @param index индекс ячейки
+     * @return тип ячейки
+     */
+    Cell.Type type(int index);
+
+    /**
+     * Возвращает тип ячейки по строке и столбцу.
+     *
+     * @param row строка ячейки
+     * @param col столбец ячейки
+     * @return тип ячейки
+     */
+    default Cell.Type type(int row, int col) {
+        return type(index(row, col));
+    }
+
+    /**
+     * Проверяет, является ли ячейка стеной.
+     *
+     * @param index индекс ячейки
+     * @return {@code true}, если ячейка - стена
+     */
+    boolean isWall(int index);
+}
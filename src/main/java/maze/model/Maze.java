@@ -4,20 +4,39 @@ import lombok.Getter;
 
 /**
  * Представляет лабиринт с заданной высотой, шириной и сеткой ячеек.
+ * Ячейки хранятся в компактной сетке {@link CellGrid}.
  */
 @Getter
 public final class Maze {
     private final int height;
     private final int width;
-    private final Cell[][] grid;
+    private final CellGrid grid;
     private final Coordinate start;
     private final Coordinate end;
 
-    public Maze(int height, int width, Cell[][] grid, Coordinate start, Coordinate end) {
-        this.height = height;
-        this.width = width;
+    public Maze(CellGrid grid, Coordinate start, Coordinate end) {
+        this.height = grid.height();
+        this.width = grid.width();
         this.grid = grid;
         this.start = start;
         this.end = end;
     }
+
+    public Maze(int height, int width, Cell[][] grid, Coordinate start, Coordinate end) {
+        this(CellGrid.of(grid), start, end);
+        if (this.height != height || this.width != width) {
+            throw new IllegalArgumentException("Размеры лабиринта не совпадают с размерами сетки");
+        }
+    }
+
+    /**
+     * Возвращает ячейку лабиринта в виде {@link Cell} (для совместимости).
+     *
+     * @param row строка ячейки
+     * @param col столбец ячейки
+     * @return ячейка лабиринта
+     */
+    public Cell cell(int row, int col) {
+        return grid.cell(row, col);
+    }
 }
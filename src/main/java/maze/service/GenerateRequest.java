@@ -0,0 +1,68 @@
+package maze.service;
+
+import maze.generator.MazeGenerationAlgorithm;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+
+/**
+ * Задание на генерацию лабиринта. Размеры и точки проверяются при создании, поэтому некорректный запрос
+ * отклоняется с {@link IllegalArgumentException} до запуска генерации.
+ *
+ * @param generator алгоритм генерации
+ * @param height    высота лабиринта
+ * @param width     ширина лабиринта
+ * @param start     начальная точка
+ * @param end       конечная точка
+ * @param seed      зерно генератора случайных чисел
+ * @param tileSize  размер плитки для параллельной генерации или {@link MazeGenerator#UNTILED}
+ *                  (по умолчанию, если поле не указано)
+ */
+public record GenerateRequest(MazeGenerator generator, int height, int width, Coordinate start, Coordinate end,
+                              long seed, int tileSize) {
+    private static final int MINIMUM_SIZE = 3;
+
+    /**
+     * Создает задание на обычную генерацию без плиток.
+     *
+     * @param generator алгоритм генерации
+     * @param height    высота лабиринта
+     * @param width     ширина лабиринта
+     * @param start     начальная точка
+     * @param end       конечная точка
+     * @param seed      зерно генератора случайных чисел
+     */
+    public GenerateRequest(MazeGenerator generator, int height, int width, Coordinate start, Coordinate end,
+                           long seed) {
+        this(generator, height, width, start, end, seed, MazeGenerator.UNTILED);
+    }
+
+    public GenerateRequest {
+        if (generator == null || start == null || end == null) {
+            throw new IllegalArgumentException("Не указаны алгоритм генерации, начальная или конечная точка");
+        }
+        if (height < MINIMUM_SIZE || width < MINIMUM_SIZE) {
+            throw new IllegalArgumentException("Размеры лабиринта должны быть не меньше " + MINIMUM_SIZE);
+        }
+        checkInside(start, height, width);
+        checkInside(end, height, width);
+        if (tileSize < 0 || (tileSize != MazeGenerator.UNTILED && generator.tileCarver().isEmpty())) {
+            throw new IllegalArgumentException(
+                "Некорректный размер плитки для алгоритма " + generator + ": " + tileSize);
+        }
+    }
+
+    /**
+     * Создает генератор для этого задания.
+     *
+     * @return генератор лабиринта
+     */
+    public MazeGenerationAlgorithm createGenerator() {
+        return generator.create(start, end, height, width, seed, tileSize);
+    }
+
+    private static void checkInside(Coordinate coordinate, int height, int width) {
+        if (coordinate.row() < 0 || coordinate.row() >= height || coordinate.col() < 0 || coordinate.col() >= width) {
+            throw new IllegalArgumentException("Точка находится вне лабиринта: " + coordinate);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package maze.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.MazeSolverAlgorithm;
+
+/**
+ * Класс {@code MazeCache} хранит сгенерированные лабиринты и найденные пути в кэшах Caffeine.
+ * Генерация детерминирована зерном, поэтому ключом лабиринта служит {@link GenerateRequest}
+ * (алгоритм, размеры, зерно, старт и финиш), а ключом пути - он же вместе с алгоритмом поиска.
+ * Размер кэшей ограничен приблизительным объемом данных в байтах: байт на клетку сетки и
+ * {@link #COORDINATE_BYTES} на клетку пути. В кэше хранятся будущие результаты, поэтому одновременные
+ * одинаковые запросы выполняются один раз; неудачные результаты в кэше не остаются.
+ * Лабиринты из кэша общие для всех запросов и не должны изменяться.
+ */
+public class MazeCache {
+    private static final int COORDINATE_BYTES = 24;
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final AsyncCache<GenerateRequest, Maze> mazes;
+    private final AsyncCache<PathKey, List<Coordinate>> paths;
+
+    /**
+     * Статистика кэша.
+     *
+     * @param hits      количество попаданий
+     * @param misses    количество промахов
+     * @param hitRate   доля попаданий
+     * @param evictions количество вытесненных записей
+     * @param bytes     приблизительный объем хранимых данных в байтах
+     */
+    public record Stats(long hits, long misses, double hitRate, long evictions, long bytes) {
+    }
+
+    private record PathKey(GenerateRequest maze, MazeSolverAlgorithm solver) {
+    }
+
+    /**
+     * Создает кэш.
+     *
+     * @param maxMazeBytes максимальный объем хранимых лабиринтов в байтах
+     * @param maxPathBytes максимальный объем хранимых путей в байтах
+     */
+    public MazeCache(long maxMazeBytes, long maxPathBytes) {
+        this.mazes = Caffeine.newBuilder()
+            .maximumWeight(maxMazeBytes)
+            .weigher((GenerateRequest request, Maze maze) -> weight(maze.grid().size(), 1))
+            .recordStats()
+            .buildAsync();
+        this.paths = Caffeine.newBuilder()
+            .maximumWeight(maxPathBytes)
+            .weigher((PathKey key, List<Coordinate> path) -> weight(path.size(), COORDINATE_BYTES))
+            .recordStats()
+            .buildAsync();
+    }
+
+    /**
+     * Возвращает лабиринт из кэша или запускает его построение.
+     *
+     * @param request параметры генерации
+     * @param loader  запуск генерации при промахе
+     * @return будущий лабиринт
+     */
+    CompletableFuture<Maze> maze(GenerateRequest request, Function<GenerateRequest, CompletableFuture<Maze>> loader) {
+        return mazes.get(request, (key, executor) -> loader.apply(key));
+    }
+
+    /**
+     * Возвращает путь из кэша или запускает его поиск.
+     *
+     * @param request   параметры генерации лабиринта
+     * @param algorithm алгоритм поиска
+     * @param loader    запуск поиска при промахе
+     * @return будущий путь
+     */
+    CompletableFuture<List<Coordinate>> path(
+        GenerateRequest request, MazeSolverAlgorithm algorithm, Supplier<CompletableFuture<List<Coordinate>>> loader
+    ) {
+        return paths.get(new PathKey(request, algorithm), (key, executor) -> loader.get());
+    }
+
+    /**
+     * Возвращает статистику кэша лабиринтов.
+     *
+     * @return статистика
+     */
+    public Stats mazeStats() {
+        return stats(mazes);
+    }
+
+    /**
+     * Возвращает статистику кэша путей.
+     *
+     * @return статистика
+     */
+    public Stats pathStats() {
+        return stats(paths);
+    }
+
+    /**
+     * Выполняет отложенное обслуживание кэшей, в том числе вытеснение.
+     */
+    void cleanUp() {
+        mazes.synchronous().cleanUp();
+        paths.synchronous().cleanUp();
+    }
+
+    private static Stats stats(AsyncCache<?, ?> cache) {
+        CacheStats stats = cache.synchronous().stats();
+        long bytes = cache.synchronous().policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+        return new Stats(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), bytes);
+    }
+
+    private static int weight(int elements, int bytesPerElement) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) elements * bytesPerElement + ENTRY_OVERHEAD_BYTES);
+    }
+}
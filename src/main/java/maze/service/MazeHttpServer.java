@@ -0,0 +1,296 @@
+package maze.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import maze.io.MazeImageRenderer;
+import maze.io.MazeTextRenderer;
+import maze.io.StreamRenderer;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.MazeSolverAlgorithm;
+
+/**
+ * Класс {@code MazeHttpServer} открывает доступ к {@link MazeService} по HTTP на встроенном сервере JDK.
+ * Каждый запрос обрабатывается в собственном виртуальном потоке, поэтому ожидание результата задания
+ * не занимает потоки платформы. Все запросы - {@code POST} с телом в JSON:
+ * <ul>
+ *     <li>{@code /generate} - тело {@link GenerateRequest}, ответ {@link MazeResponse};</li>
+ *     <li>{@code /solve} - тело {@link SolveRequest}, ответ {@link PathResponse};</li>
+ *     <li>{@code /render?format=text|pgm|ppm|png} - тело {@link SolveRequest}, ответ - визуализация лабиринта
+ *     (с путем, если указан решатель), записываемая потоком без сборки в памяти.</li>
+ * </ul>
+ * Запрос {@code GET /stats} возвращает статистику кэша сервиса, если он задан.
+ * Ошибки возвращаются в виде {@code {"error": "..."}}: 400 - некорректный запрос или слишком большой лабиринт,
+ * 429 - превышен лимит заданий, 504 - истекло время выполнения. Если ошибка произошла, когда ответ уже
+ * начал передаваться, соединение обрывается без завершающего блока, чтобы клиент не принял неполный ответ
+ * за целый.
+ */
+public class MazeHttpServer implements AutoCloseable {
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int INTERNAL_ERROR = 500;
+    private static final int GATEWAY_TIMEOUT = 504;
+    private static final int CHUNKED = 0;
+    private static final int NO_RESPONSE = -1;
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String JSON = "application/json";
+    private static final String TEXT_FORMAT = "text";
+    private static final String POST = "POST";
+    private static final Map<String, String> MEDIA_TYPES = Map.of(
+        TEXT_FORMAT, "text/plain; charset=utf-8",
+        "pgm", "image/x-portable-graymap",
+        "ppm", "image/x-portable-pixmap",
+        "png", "image/png"
+    );
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final MazeService service;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Тело запроса на решение или визуализацию.
+     *
+     * @param maze   параметры генерации лабиринта
+     * @param solver алгоритм поиска пути; для визуализации может отсутствовать
+     */
+    public record SolveRequest(GenerateRequest maze, MazeSolverAlgorithm solver) {
+        public SolveRequest {
+            if (maze == null) {
+                throw new IllegalArgumentException("Не указаны параметры лабиринта");
+            }
+        }
+    }
+
+    /**
+     * Сгенерированный лабиринт: строка {@code rows[i]} содержит порядковые номера типов клеток строки {@code i}.
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param start  начальная точка
+     * @param end    конечная точка
+     * @param rows   строки лабиринта
+     */
+    public record MazeResponse(int height, int width, Coordinate start, Coordinate end, List<String> rows) {
+    }
+
+    /**
+     * Найденный путь.
+     *
+     * @param path   клетки пути от старта до финиша; пустой список, если пути нет
+     * @param length количество клеток пути
+     */
+    public record PathResponse(List<Coordinate> path, int length) {
+    }
+
+    /**
+     * Обработчик запроса, выполняемый после проверки метода.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        void respond(HttpExchange exchange) throws IOException, ExecutionException, InterruptedException;
+    }
+
+    /**
+     * Создает сервер; прием запросов начинается после {@link #start()}.
+     *
+     * @param address адрес для прослушивания
+     * @param service сервис, выполняющий задания
+     * @throws IOException если не удалось открыть порт
+     */
+    public MazeHttpServer(InetSocketAddress address, MazeService service) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/generate", exchange -> handle(exchange, POST, this::generate));
+        server.createContext("/solve", exchange -> handle(exchange, POST, this::solve));
+        server.createContext("/render", exchange -> handle(exchange, POST, this::render));
+        server.createContext("/stats", exchange -> handle(exchange, "GET", this::stats));
+    }
+
+    /**
+     * Начинает прием запросов.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Возвращает адрес, на котором работает сервер (полезно, если порт был выбран системой).
+     *
+     * @return адрес сервера
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    private void generate(HttpExchange exchange) throws IOException, ExecutionException, InterruptedException {
+        GenerateRequest request = read(exchange, GenerateRequest.class);
+        Maze maze = service.generate(request).get();
+        sendJson(exchange, OK, toResponse(maze));
+    }
+
+    private void solve(HttpExchange exchange) throws IOException, ExecutionException, InterruptedException {
+        SolveRequest request = read(exchange, SolveRequest.class);
+        if (request.solver() == null) {
+            throw new IllegalArgumentException("Не указан алгоритм поиска пути");
+        }
+        List<Coordinate> path = service.solve(request.maze(), request.solver()).get();
+        sendJson(exchange, OK, new PathResponse(path, path.size()));
+    }
+
+    private void render(HttpExchange exchange) throws IOException, ExecutionException, InterruptedException {
+        String format = queryParameter(exchange, "format", TEXT_FORMAT);
+        String mediaType = MEDIA_TYPES.get(format);
+        if (mediaType == null) {
+            throw new IllegalArgumentException("Неизвестный формат: " + format);
+        }
+        SolveRequest request = read(exchange, SolveRequest.class);
+        Maze maze = service.generate(request.maze()).get();
+        List<Coordinate> path = request.solver() == null
+            ? List.of()
+            : service.solve(request.maze(), maze, request.solver()).get();
+
+        // Все проверки и вычисления выполнены до отправки заголовков: после них код ответа уже не изменить.
+        StreamRenderer renderer = TEXT_FORMAT.equals(format)
+            ? new MazeTextRenderer()
+            : new MazeImageRenderer(MazeImageRenderer.Format.valueOf(format.toUpperCase(Locale.ROOT)));
+        exchange.getResponseHeaders().set(CONTENT_TYPE, mediaType);
+        exchange.sendResponseHeaders(OK, CHUNKED);
+        try (OutputStream body = exchange.getResponseBody()) {
+            renderer.render(maze, path, body);
+        }
+    }
+
+    private void stats(HttpExchange exchange) throws IOException {
+        MazeCache cache = service.cache();
+        if (cache == null) {
+            sendError(exchange, NOT_FOUND, "Кэш не используется");
+            return;
+        }
+        sendJson(exchange, OK, Map.of("mazes", cache.mazeStats(), "paths", cache.pathStats()));
+    }
+
+    /**
+     * Проверяет метод запроса, вызывает обработчик и переводит исключения в коды ответа.
+     * Обмен закрывается только после полного ответа; исключение, вышедшее из метода, заставляет
+     * сервер закрыть соединение, не завершая начатый ответ.
+     */
+    private void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException {
+        try {
+            if (method.equals(exchange.getRequestMethod())) {
+                endpoint.respond(exchange);
+            } else {
+                sendError(exchange, METHOD_NOT_ALLOWED, "Поддерживается только " + method);
+            }
+        } catch (ExecutionException e) {
+            sendFailure(exchange, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, INTERNAL_ERROR, "Запрос прерван");
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            sendError(exchange, BAD_REQUEST, e.getMessage());
+        } catch (RuntimeException e) {
+            sendError(exchange, INTERNAL_ERROR, String.valueOf(e));
+        }
+        exchange.close();
+    }
+
+    private void sendFailure(HttpExchange exchange, Throwable cause) throws IOException {
+        if (cause instanceof IllegalArgumentException) {
+            sendError(exchange, BAD_REQUEST, cause.getMessage());
+        } else if (cause instanceof RejectedExecutionException) {
+            sendError(exchange, TOO_MANY_REQUESTS, cause.getMessage());
+        } else if (cause instanceof TimeoutException) {
+            sendError(exchange, GATEWAY_TIMEOUT, "Истекло время выполнения задания");
+        } else {
+            sendError(exchange, INTERNAL_ERROR, String.valueOf(cause));
+        }
+    }
+
+    private <T> T read(HttpExchange exchange, Class<T> type) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            T value = mapper.readValue(body, type);
+            if (value == null) {
+                throw new IllegalArgumentException("Пустое тело запроса");
+            }
+            return value;
+        }
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object value) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(value);
+        exchange.getResponseHeaders().set(CONTENT_TYPE, JSON);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Отправляет ошибку, если заголовки ответа еще не отправлены, и иначе прерывает обмен.
+     */
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        if (exchange.getResponseCode() != NO_RESPONSE) {
+            throw new IOException("Ответ прерван после начала передачи: " + message);
+        }
+        sendJson(exchange, status, Map.of("error", String.valueOf(message)));
+    }
+
+    private static String queryParameter(HttpExchange exchange, String name, String defaultValue) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return pair.substring(separator + 1).toLowerCase(Locale.ROOT);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static MazeResponse toResponse(Maze maze) {
+        CellGrid grid = maze.grid();
+        byte[] cells = grid.cells();
+        List<String> rows = new ArrayList<>(grid.height());
+        byte[] row = new byte[grid.width()];
+        for (int rowStart = 0; rowStart < cells.length; rowStart += row.length) {
+            for (int col = 0; col < row.length; col++) {
+                row[col] = (byte) ('0' + cells[rowStart + col]);
+            }
+            rows.add(new String(row, StandardCharsets.US_ASCII));
+        }
+        return new MazeResponse(grid.height(), grid.width(), maze.start(), maze.end(), rows);
+    }
+
+    /**
+     * Останавливает сервер, дожидаясь завершения обрабатываемых запросов.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
@@ -0,0 +1,251 @@
+package maze.service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.Setter;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.MazeSolverAlgorithm;
+import maze.solver.Solver;
+
+/**
+ * Класс {@code MazeService} выполняет задания на генерацию и решение лабиринтов параллельно,
+ * каждое задание - в собственном виртуальном потоке.
+ * Генераторы хранят строящийся лабиринт, а решатели переиспользуют массивы поиска между вызовами,
+ * поэтому ни те, ни другие нельзя использовать из нескольких потоков одновременно. Генератор создается
+ * заново для каждого задания, а решатели берутся из пула свободных решателей своего алгоритма
+ * и возвращаются в него после поиска, так что в каждый момент решатель принадлежит одному заданию.
+ * Число одновременно выполняемых заданий ограничено: сверх лимита задания сразу отклоняются
+ * с {@link RejectedExecutionException}. Если задание не завершилось за отведенное время, его результат
+ * завершается с {@link TimeoutException}, а поток вычислений прерывается: циклы
+ * генераторов и решателей проверяют прерывание и завершаются с {@link java.util.concurrent.CancellationException},
+ * освобождая место задания. Решатели, прерванные или решавшие лабиринт больше {@link #MAX_POOLED_CELLS}
+ * клеток, в пул не возвращаются, чтобы пул не удерживал массивы поиска под самый большой лабиринт.
+ * Если задан кэш {@link MazeCache}, повторные задания с тем же {@link GenerateRequest} получают готовый
+ * результат без запуска вычислений и без занятия места.
+ * Задания на лабиринты больше {@link #maxCells()} клеток отклоняются с {@link IllegalArgumentException}
+ * до выделения памяти.
+ */
+public class MazeService implements AutoCloseable {
+    private static final long DEFAULT_MAX_CELLS = 16_000_000;
+    private static final int MAX_POOLED_CELLS = 1 << 20;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore admission;
+    private final Duration timeout;
+    private final Map<MazeSolverAlgorithm, Queue<Solver>> idleSolvers = new EnumMap<>(MazeSolverAlgorithm.class);
+
+    /**
+     * Кэш лабиринтов и путей (по умолчанию отсутствует).
+     */
+    @Getter
+    @Setter
+    private MazeCache cache;
+
+    /**
+     * Наибольшее количество клеток лабиринта в одном задании.
+     */
+    @Getter
+    @Setter
+    private long maxCells = DEFAULT_MAX_CELLS;
+
+    /**
+     * Создает сервис.
+     *
+     * @param maxJobs максимальное количество одновременно выполняемых заданий
+     * @param timeout время, отведенное на одно задание
+     */
+    public MazeService(int maxJobs, Duration timeout) {
+        if (maxJobs <= 0) {
+            throw new IllegalArgumentException("Количество заданий должно быть положительным");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Время выполнения должно быть положительным");
+        }
+        this.admission = new Semaphore(maxJobs);
+        this.timeout = timeout;
+        for (MazeSolverAlgorithm algorithm : MazeSolverAlgorithm.values()) {
+            idleSolvers.put(algorithm, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /**
+     * Принимает задание на генерацию лабиринта.
+     *
+     * @param request параметры генерации
+     * @return будущий лабиринт
+     */
+    public CompletableFuture<Maze> generate(GenerateRequest request) {
+        return admitted(request, () -> runningMaze(request));
+    }
+
+    /**
+     * Принимает задание на поиск пути между стартом и финишем лабиринта, заданного параметрами генерации.
+     * Без кэша лабиринт генерируется заново.
+     *
+     * @param request   параметры генерации лабиринта
+     * @param algorithm алгоритм поиска
+     * @return будущий путь; пустой список, если путь не найден
+     */
+    public CompletableFuture<List<Coordinate>> solve(GenerateRequest request, MazeSolverAlgorithm algorithm) {
+        return admitted(request, () -> runningPath(request, () -> runningMaze(request), algorithm));
+    }
+
+    /**
+     * Принимает задание на поиск пути в уже полученном лабиринте; результат кэшируется по параметрам генерации.
+     *
+     * @param request   параметры, которыми был получен лабиринт
+     * @param maze      лабиринт, полученный по {@code request}
+     * @param algorithm алгоритм поиска
+     * @return будущий путь; пустой список, если путь не найден
+     */
+    public CompletableFuture<List<Coordinate>> solve(
+        GenerateRequest request, Maze maze, MazeSolverAlgorithm algorithm
+    ) {
+        return withTimeout(runningPath(request, () -> CompletableFuture.completedFuture(maze), algorithm));
+    }
+
+    /**
+     * Принимает задание на поиск пути.
+     *
+     * @param maze      лабиринт
+     * @param start     начальная точка
+     * @param end       конечная точка
+     * @param algorithm алгоритм поиска
+     * @return будущий путь; пустой список, если путь не найден
+     */
+    public CompletableFuture<List<Coordinate>> solve(
+        Maze maze, Coordinate start, Coordinate end, MazeSolverAlgorithm algorithm
+    ) {
+        return submit(() -> solveWithPooledSolver(maze, start, end, algorithm));
+    }
+
+    /**
+     * Запускает задание, если лабиринт из запроса не превышает {@link #maxCells}.
+     */
+    private <T> CompletableFuture<T> admitted(GenerateRequest request, Supplier<CompletableFuture<T>> job) {
+        if ((long) request.height() * request.width() > maxCells) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                "Лабиринт " + request.height() + "x" + request.width() + " больше " + maxCells + " клеток"));
+        }
+        return withTimeout(job.get());
+    }
+
+    private CompletableFuture<Maze> runningMaze(GenerateRequest request) {
+        Function<GenerateRequest, CompletableFuture<Maze>> generation =
+            key -> start(() -> key.createGenerator().generate());
+        MazeCache current = cache;
+        return current == null ? generation.apply(request) : current.maze(request, generation);
+    }
+
+    private CompletableFuture<List<Coordinate>> runningPath(
+        GenerateRequest request, Supplier<CompletableFuture<Maze>> maze, MazeSolverAlgorithm algorithm
+    ) {
+        Supplier<CompletableFuture<List<Coordinate>>> search = () -> maze.get().thenCompose(
+            generated -> start(() -> solveWithPooledSolver(generated, generated.start(), generated.end(), algorithm)));
+        MazeCache current = cache;
+        return current == null ? search.get() : current.path(request, algorithm, search);
+    }
+
+    /**
+     * Возвращает количество заданий, которые можно принять прямо сейчас.
+     *
+     * @return количество свободных мест
+     */
+    public int availableSlots() {
+        return admission.availablePermits();
+    }
+
+    /**
+     * Запускает задание и ограничивает время ожидания его результата.
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> job) {
+        return withTimeout(start(job));
+    }
+
+    /**
+     * Возвращает копию результата, завершающуюся с ошибкой по истечении времени; сам результат
+     * (в том числе хранящийся в кэше) при этом не затрагивается.
+     */
+    private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> running) {
+        return running.copy().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Запускает задание в виртуальном потоке, если есть свободное место.
+     * Если вычисления не уложились в отведенное время, результат завершается с {@link TimeoutException},
+     * а поток задания прерывается, и циклы генерации или поиска завершаются досрочно. Место освобождается
+     * по окончании вычислений, до завершения результата.
+     */
+    private <T> CompletableFuture<T> start(Supplier<T> job) {
+        if (!admission.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                new RejectedExecutionException("Превышен лимит одновременных заданий"));
+        }
+        CompletableFuture<T> running = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                T result;
+                try {
+                    result = job.get();
+                } catch (Throwable e) {
+                    admission.release();
+                    running.completeExceptionally(e);
+                    return;
+                }
+                // Место освобождается до завершения результата: зависимые этапы (поиск после генерации)
+                // запускаются в этом же потоке при завершении и должны получить свое место.
+                admission.release();
+                running.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        running.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).whenComplete((result, failure) -> {
+            if (failure instanceof TimeoutException) {
+                task.cancel(true);
+            }
+        });
+        return running;
+    }
+
+    private List<Coordinate> solveWithPooledSolver(
+        Maze maze, Coordinate start, Coordinate end, MazeSolverAlgorithm algorithm
+    ) {
+        Queue<Solver> idle = idleSolvers.get(algorithm);
+        Solver solver = idle.poll();
+        if (solver == null) {
+            solver = algorithm.create();
+        }
+        List<Coordinate> path = solver.solve(maze, start, end);
+        if (maze.grid().size() <= MAX_POOLED_CELLS) {
+            idle.offer(solver);
+        }
+        return path;
+    }
+
+    /**
+     * Перестает принимать задания и дожидается завершения уже запущенных.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
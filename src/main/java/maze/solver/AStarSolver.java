@@ -1,37 +1,43 @@
 package maze.solver;
 
-import maze.model.Coordinate;
-
 /**
  * Класс {@code AStarSolver} реализует алгоритм A* для поиска оптимального пути
  * в лабиринте. Алгоритм A* использует комбинированную стоимость узлов и эвристическую
  * функцию, чтобы находить наилучший путь от начальной точки до конечной.
+ * Эвристика задается через {@link Heuristic}; по умолчанию используется манхэттенское расстояние,
+ * умноженное на стоимость самой дешевой ячейки ({@link ManhattanHeuristic#CHEAPEST_CELL}).
  */
 public class AStarSolver extends BaseSolver {
+    private final Heuristic heuristic;
+
+    public AStarSolver() {
+        this(ManhattanHeuristic.CHEAPEST_CELL);
+    }
+
     /**
-     * Рассчитывает приоритет узла, который определяется как сумма стоимости узла и эвристической
-     * оценки расстояния до конечной точки. Эвристическая функция использует
-     * манхэттенское расстояние между координатами узла и конечной точкой.
+     * Создает решатель A* с заданной эвристикой.
      *
-     * @param node узел, для которого нужно рассчитать приоритет.
-     * @return комбинированная стоимость узла как приоритет.
+     * @param heuristic допустимая и согласованная эвристика.
      */
-    @Override
-    protected int calculatePriority(Node node) {
-        return node.cost + heuristic(node.coordinate, end);
+    public AStarSolver(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    AStarSolver(OpenSet openNodes, Heuristic heuristic) {
+        super(openNodes);
+        this.heuristic = heuristic;
     }
 
     /**
-     * Эвристическая функция для вычисления расстояния между двумя координатами
-     * с использованием манхэттенского расстояния.
-     * Манхэттенское расстояние рассчитывается как сумма абсолютных разностей
-     * координат строк и столбцов.
+     * Рассчитывает приоритет ячейки, который определяется как сумма стоимости пути до ячейки и эвристической
+     * оценки стоимости пути до конечной точки.
      *
-     * @param a первая координата.
-     * @param b вторая координата.
-     * @return манхэттенское расстояние между координатами.
+     * @param index индекс ячейки, для которой нужно рассчитать приоритет.
+     * @param cost  стоимость пути до ячейки.
+     * @return комбинированная стоимость ячейки как приоритет.
      */
-    private int heuristic(Coordinate a, Coordinate b) {
-        return Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col());
+    @Override
+    protected int calculatePriority(int index, int cost) {
+        return cost + heuristic.estimate(grid, index, endIndex);
     }
 }
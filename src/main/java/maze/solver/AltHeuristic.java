@@ -0,0 +1,205 @@
+package maze.solver;
+
+import java.util.Arrays;
+import maze.model.Direction;
+import maze.model.Grid;
+import maze.model.Maze;
+
+/**
+ * Эвристика ALT (A*, ориентиры и неравенство треугольника).
+ * Для нескольких ячеек-ориентиров {@code L} один раз на лабиринт вычисляются точные стоимости {@code d(L, v)}
+ * до всех ячеек, после чего стоимость пути {@code d(v, t)} оценивается снизу по неравенству треугольника.
+ * Стоимость перехода - стоимость ячейки, в которую входит путь, поэтому для пути по тем же ячейкам в обратную
+ * сторону {@code d(v, L) = d(L, v) + w(L) - w(v)}, и одной таблицы на ориентир хватает для обеих оценок:
+ * {@code d(v, t) >= d(L, t) - d(L, v)} и {@code d(v, t) >= d(v, L) - d(t, L)}.
+ * Ориентиры выбираются жадно: каждый следующий - самая удаленная от уже выбранных достижимая ячейка.
+ * Таблицы хранятся в одном массиве {@code char[]}, где расстояния всех ориентиров до ячейки лежат рядом
+ * ({@code index * landmarkCount + landmark}), поэтому оценка читает одну строку кэша, а ячейка занимает
+ * {@code 2 * landmarkCount} байт. Расстояния больше {@link #SATURATED} хранятся как {@link #SATURATED}:
+ * ограничение сверху не увеличивает разность расстояний до соседних ячеек, поэтому оценка остается
+ * допустимой и согласованной, а для далеких от ориентира ячеек лишь становится слабее.
+ * Экземпляр привязан к сетке лабиринта, для которой построен, и может использоваться для любых запросов к ней;
+ * для решателя, который ищет пути в разных лабиринтах, предназначена {@link #perGrid()}.
+ */
+public final class AltHeuristic implements Heuristic {
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+
+    /**
+     * Наибольшее хранимое расстояние от ориентира до ячейки.
+     */
+    public static final int SATURATED = Character.MAX_VALUE - 1;
+
+    private static final int UNREACHED = SearchState.UNREACHED;
+    private static final char UNREACHED_MARK = Character.MAX_VALUE;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Grid grid;
+    private final int landmarkCount;
+    private final int[] landmarks;
+    private final char[] distances;
+
+    public AltHeuristic(Maze maze) {
+        this(maze, DEFAULT_LANDMARK_COUNT);
+    }
+
+    /**
+     * Выбирает ориентиры и вычисляет таблицы расстояний для лабиринта.
+     *
+     * @param maze          лабиринт, для которого строится эвристика.
+     * @param landmarkCount количество ориентиров.
+     */
+    public AltHeuristic(Maze maze, int landmarkCount) {
+        this(maze.grid(), landmarkCount, maze.grid().index(maze.start()));
+    }
+
+    private AltHeuristic(Grid grid, int landmarkCount, int seed) {
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException("Количество ориентиров должно быть положительным");
+        }
+        this.grid = grid;
+        if ((long) grid.size() * landmarkCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Слишком много ориентиров для лабиринта такого размера");
+        }
+        this.landmarkCount = landmarkCount;
+        this.landmarks = new int[landmarkCount];
+        this.distances = new char[grid.size() * landmarkCount];
+        selectLandmarks(seed);
+    }
+
+    /**
+     * Создает эвристику ALT для решателя, который ищет пути в разных лабиринтах.
+     * Таблицы ориентиров строятся при первом запросе к сетке и переиспользуются, пока запросы приходят
+     * к той же сетке, поэтому сетка не должна изменяться между поисками. Эвристика не потокобезопасна.
+     *
+     * @return эвристика, строящая таблицы один раз на лабиринт.
+     */
+    public static Heuristic perGrid() {
+        return new PerGrid();
+    }
+
+    /**
+     * Возвращает индексы выбранных ориентиров.
+     *
+     * @return копия массива индексов ориентиров.
+     */
+    public int[] landmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public int estimate(Grid cellGrid, int index, int target) {
+        if (cellGrid != grid) {
+            throw new IllegalArgumentException("Эвристика построена для другого лабиринта");
+        }
+        if (grid.isWall(index) || grid.isWall(target)) {
+            return 0;
+        }
+        int indexBase = index * landmarkCount;
+        int targetBase = target * landmarkCount;
+        int indexCost = BaseSolver.costOf(grid.type(index));
+        int targetCost = BaseSolver.costOf(grid.type(target));
+
+        int best = 0;
+        for (int landmark = 0; landmark < landmarkCount; landmark++) {
+            int fromLandmarkToIndex = distances[indexBase + landmark];
+            int fromLandmarkToTarget = distances[targetBase + landmark];
+            if (fromLandmarkToIndex == UNREACHED_MARK || fromLandmarkToTarget == UNREACHED_MARK) {
+                continue;
+            }
+            int viaForward = fromLandmarkToTarget - fromLandmarkToIndex;
+            int viaBackward = (fromLandmarkToIndex - indexCost) - (fromLandmarkToTarget - targetCost);
+            best = Math.max(best, Math.max(viaForward, viaBackward));
+        }
+        return best;
+    }
+
+    private void selectLandmarks(int seed) {
+        int[] current = new int[grid.size()];
+        int[] nearest = new int[grid.size()];
+        Arrays.fill(nearest, UNREACHED);
+        BucketQueue queue = new BucketQueue(BaseSolver.DESERT_COST);
+
+        computeDistances(seed, current, queue);
+        int candidate = farthest(current);
+        for (int landmark = 0; landmark < landmarkCount; landmark++) {
+            landmarks[landmark] = candidate;
+            computeDistances(candidate, current, queue);
+            for (int index = 0; index < current.length; index++) {
+                distances[index * landmarkCount + landmark] = compact(current[index]);
+                nearest[index] = Math.min(nearest[index], current[index]);
+            }
+            candidate = farthest(nearest);
+        }
+    }
+
+    private static char compact(int distance) {
+        return distance == UNREACHED ? UNREACHED_MARK : (char) Math.min(distance, SATURATED);
+    }
+
+    /**
+     * Находит достижимую ячейку с наибольшим расстоянием.
+     */
+    private int farthest(int[] cellDistances) {
+        int result = 0;
+        int maxDistance = -1;
+        for (int index = 0; index < cellDistances.length; index++) {
+            if (cellDistances[index] != UNREACHED && cellDistances[index] > maxDistance) {
+                maxDistance = cellDistances[index];
+                result = index;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Вычисляет стоимости путей от ячейки до всех ячеек лабиринта алгоритмом Дайала.
+     * Построение таблиц прерывается вместе с поиском, если прерван поток.
+     */
+    private void computeDistances(int source, int[] result, BucketQueue queue) {
+        Arrays.fill(result, UNREACHED);
+        if (grid.isWall(source)) {
+            return;
+        }
+        queue.ensureCapacity(grid.size());
+        result[source] = 0;
+        queue.insertOrDecrease(source, 0);
+
+        int width = grid.width();
+        int step = 0;
+        while (!queue.isEmpty()) {
+            BaseSolver.checkInterrupted(step++);
+            int current = queue.poll();
+            int row = current / width;
+            int col = current - row * width;
+            for (Direction direction : DIRECTIONS) {
+                int neighborRow = row + direction.rowOffset();
+                int neighborCol = col + direction.colOffset();
+                if (!grid.contains(neighborRow, neighborCol) || grid.isWall(grid.index(neighborRow, neighborCol))) {
+                    continue;
+                }
+                int neighbor = grid.index(neighborRow, neighborCol);
+                int newCost = result[current] + BaseSolver.costOf(grid.type(neighbor));
+                if (newCost < result[neighbor]) {
+                    result[neighbor] = newCost;
+                    queue.insertOrDecrease(neighbor, newCost);
+                }
+            }
+        }
+    }
+
+    /**
+     * Эвристика ALT, которая хранит таблицы для последней сетки, к которой был запрос.
+     * Ориентиры выбираются начиная с целевой ячейки первого запроса.
+     */
+    private static final class PerGrid implements Heuristic {
+        private AltHeuristic current;
+
+        @Override
+        public int estimate(Grid grid, int index, int target) {
+            if (current == null || current.grid != grid) {
+                current = new AltHeuristic(grid, DEFAULT_LANDMARK_COUNT, target);
+            }
+            return current.estimate(grid, index, target);
+        }
+    }
+}
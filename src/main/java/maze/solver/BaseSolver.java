@@ -1,87 +1,210 @@
 package maze.solver;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Set;
+import java.util.concurrent.CancellationException;
+import lombok.Getter;
+import lombok.Setter;
 import maze.model.Cell;
 import maze.model.Coordinate;
 import maze.model.Direction;
-import maze.model.Maze;
+import maze.model.Grid;
 
 /**
  * Абстрактный класс {@code BaseSolver} предоставляет базовую реализацию для решения лабиринтов.
  * Этот класс использует алгоритм поиска с приоритетом для нахождения кратчайшего пути от
  * заданной начальной точки до конечной в лабиринте.
- * Подклассы должны реализовать метод {@link #calculatePriority(Node)},
- * который рассчитывает приоритет для узлов в очереди.
+ * Поиск работает с линейными индексами ячеек: стоимости, родители и закрытые ячейки хранятся
+ * в примитивных массивах {@link SearchState}, а открытые ячейки - в очереди {@link OpenSet}
+ * с уменьшением ключа (по умолчанию индексированная куча {@link IndexedMinHeap}).
+ * Все структуры переиспользуются между вызовами. Если поток поиска прерван, поиск завершается
+ * с {@link CancellationException}.
+ * Каждый поиск заполняет счетчики {@link #stats()}; если задан {@link #listener(SearchListener)},
+ * он получает их после завершения поиска.
+ * Подклассы должны реализовать метод {@link #calculatePriority(int, int)},
+ * который рассчитывает приоритет для ячеек в очереди.
  */
 public abstract class BaseSolver implements Solver {
     protected static final int PASSAGE_COST = 5;
     protected static final int ROAD_COST = 3;
     protected static final int DESERT_COST = 7;
 
+    protected static final Direction[] DIRECTIONS = Direction.values();
+    private static final int INTERRUPT_CHECK_MASK = 0xFFF;
+
     protected Coordinate end;
+    protected int width;
+    protected Grid grid;
+    protected int endIndex;
+
+    /**
+     * Счетчики последнего поиска.
+     */
+    @Getter
+    private final SearchStats stats = new SearchStats();
+    /**
+     * Слушатель завершения поиска; {@code null}, если не нужен.
+     */
+    @Setter
+    private SearchListener listener;
+
+    private final SearchState state;
+    private final OpenSet openNodes;
+
+    /**
+     * Создает решатель с индексированной двоичной кучей в качестве очереди открытых ячеек.
+     */
+    protected BaseSolver() {
+        this(new IndexedMinHeap());
+    }
+
+    /**
+     * Создает решатель с заданной очередью открытых ячеек.
+     *
+     * @param openNodes очередь открытых ячеек.
+     */
+    BaseSolver(OpenSet openNodes) {
+        this(openNodes, new SearchState());
+    }
+
+    /**
+     * Создает решатель с заданными очередью открытых ячеек и состоянием поиска.
+     * Подклассы со своим алгоритмом поиска передают сюда структуры, которые используют сами.
+     *
+     * @param openNodes очередь открытых ячеек.
+     * @param state     состояние поиска.
+     */
+    BaseSolver(OpenSet openNodes, SearchState state) {
+        this.openNodes = openNodes;
+        this.state = state;
+    }
 
     /**
      * Решает лабиринт, находя кратчайший путь от начальной до конечной точки.
+     * Заполняет счетчики {@link #stats()}, уведомляет слушателя и, если запись JFR включена,
+     * публикует событие {@link MazeSolvedEvent}.
      *
-     * @param maze лабиринт, в котором необходимо найти путь.
+     * @param grid сетка лабиринта, в которой необходимо найти путь.
      * @param start начальная точка.
      * @param end конечная точка.
      * @return список координат, представляющих путь от начальной до конечной точки,
      * или пустой список, если путь не найден.
      */
     @Override
-    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+    public final List<Coordinate> solve(Grid grid, Coordinate start, Coordinate end) {
+        MazeSolvedEvent event = new MazeSolvedEvent();
+        event.begin();
+        stats.start();
+        List<Coordinate> path = search(grid, start, end);
+        stats.finish(path.size());
+        event.end();
+        if (event.shouldCommit()) {
+            event.height = grid.height();
+            event.width = grid.width();
+            event.algorithm = getClass().getSimpleName();
+            event.nodesExpanded = stats.expandedNodes();
+            event.relaxations = stats.relaxations();
+            event.peakOpenNodes = stats.peakOpenNodes();
+            event.pathLength = stats.pathLength();
+            event.commit();
+        }
+        if (listener != null) {
+            listener.searchFinished(stats);
+        }
+        return path;
+    }
+
+    /**
+     * Ищет кратчайший путь поиском с приоритетом, учитывая раскрытия и релаксации в {@link #stats()}.
+     *
+     * @param grid сетка лабиринта, в которой необходимо найти путь.
+     * @param start начальная точка.
+     * @param end конечная точка.
+     * @return путь от начальной до конечной точки или пустой список, если путь не найден.
+     */
+    protected List<Coordinate> search(Grid grid, Coordinate start, Coordinate end) {
         this.end = end;
+        this.width = grid.width();
+        this.grid = grid;
+        this.endIndex = grid.index(end);
+
+        state.reset(grid.size());
+        openNodes.ensureCapacity(grid.size());
+
+        int startIndex = grid.index(start);
+        state.update(startIndex, 0, SearchState.NO_PARENT);
+        openNodes.insertOrDecrease(startIndex, calculatePriority(startIndex, 0));
+        stats.opened(openNodes.size());
+
+        for (int step = 1; !openNodes.isEmpty(); step++) {
+            checkInterrupted(step);
+            int current = openNodes.poll();
+            if (current == endIndex) {
+                return state.pathTo(current, width);
+            }
 
-        int capacity = maze.height() * maze.width();
-        PriorityQueue<Node> openNodes = new PriorityQueue<>(capacity, Comparator.comparingInt(this::calculatePriority));
-        Map<Coordinate, Integer> costMap = new HashMap<>(capacity);
-        Set<Coordinate> closedCoordinates = new HashSet<>(capacity);
+            state.close(current);
+            stats.expanded();
+            expand(current);
+        }
 
-        openNodes.add(new Node(start, null, 0));
-        costMap.put(start, 0);
+        return Collections.emptyList();
+    }
 
-        while (!openNodes.isEmpty()) {
-            Node current = openNodes.poll();
-            if (current.coordinate.equals(end)) {
-                return reconstructPath(current);
-            }
+    /**
+     * Прерывает поиск, если прерван его поток (например, по истечении времени задания).
+     * Флаг проверяется раз в 4096 шагов, чтобы проверка не замедляла цикл поиска.
+     *
+     * @param step номер шага поиска
+     * @throws CancellationException если поток прерван
+     */
+    static void checkInterrupted(int step) {
+        if ((step & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Поиск пути прерван");
+        }
+    }
 
-            closedCoordinates.add(current.coordinate);
+    /**
+     * Релаксирует всех проходимых соседей ячейки.
+     *
+     * @param current индекс раскрываемой ячейки.
+     */
+    private void expand(int current) {
+        int row = current / width;
+        int col = current - row * width;
+        int currentCost = state.cost(current);
+
+        for (Direction direction : DIRECTIONS) {
+            int neighborRow = row + direction.rowOffset();
+            int neighborCol = col + direction.colOffset();
+            if (!grid.contains(neighborRow, neighborCol)) {
+                continue;
+            }
 
-            for (Coordinate neighbor : getNeighbors(current.coordinate, maze)) {
-                if (closedCoordinates.contains(neighbor)) {
-                    continue;
-                }
+            int neighbor = grid.index(neighborRow, neighborCol);
+            if (grid.isWall(neighbor) || state.isClosed(neighbor)) {
+                continue;
+            }
 
-                int newCost = current.cost + getCostForCellType(maze.grid()[neighbor.row()][neighbor.col()].type());
-                if (newCost < costMap.getOrDefault(neighbor, Integer.MAX_VALUE)) {
-                    costMap.put(neighbor, newCost);
-                    openNodes.add(new Node(neighbor, current, newCost));
-                }
+            int newCost = currentCost + getCostForCellType(grid.type(neighbor));
+            if (newCost < state.cost(neighbor)) {
+                state.update(neighbor, newCost, current);
+                openNodes.insertOrDecrease(neighbor, calculatePriority(neighbor, newCost));
+                stats.relaxed(openNodes.size());
             }
         }
-
-        return Collections.emptyList();
     }
 
     /**
-     * Рассчитывает приоритет узла для очереди.
+     * Рассчитывает приоритет ячейки для очереди.
      * Подклассы должны реализовать этот метод, чтобы определить,
-     * как будет оцениваться приоритет для каждого узла.
+     * как будет оцениваться приоритет для каждой ячейки.
      *
-     * @param node узел, для которого нужно рассчитать приоритет.
-     * @return приоритет узла.
+     * @param index линейный индекс ячейки ({@code row * width + col}).
+     * @param cost  стоимость пути от начальной точки до ячейки.
+     * @return приоритет ячейки.
      */
-    protected abstract int calculatePriority(Node node);
+    protected abstract int calculatePriority(int index, int cost);
 
     /**
      * Получает стоимость для указанного типа ячейки.
@@ -90,6 +213,16 @@ public abstract class BaseSolver implements Solver {
      * @return стоимость ячейки.
      */
     protected int getCostForCellType(Cell.Type cellType) {
+        return costOf(cellType);
+    }
+
+    /**
+     * Возвращает стандартную стоимость прохода через ячейку указанного типа.
+     *
+     * @param cellType тип ячейки (проход, дорога, пустыня).
+     * @return стоимость ячейки или {@link Integer#MAX_VALUE} для стены.
+     */
+    static int costOf(Cell.Type cellType) {
         return switch (cellType) {
             case PASSAGE -> PASSAGE_COST;
             case ROAD -> ROAD_COST;
@@ -97,60 +230,4 @@ public abstract class BaseSolver implements Solver {
             default -> Integer.MAX_VALUE;
         };
     }
-
-    /**
-     * Реконструирует путь от конечного узла до начального, используя ссылки на родительские узлы.
-     *
-     * @param node конечный узел.
-     * @return список координат, представляющих путь от начальной до конечной точки.
-     */
-    protected List<Coordinate> reconstructPath(Node node) {
-        List<Coordinate> path = new ArrayList<>();
-        Node currentNode = node;
-
-        while (currentNode != null) {
-            path.add(currentNode.coordinate);
-            currentNode = currentNode.parent;
-        }
-        Collections.reverse(path);
-        return path;
-    }
-
-    /**
-     * Получает соседние координаты (не стенки) для заданной координаты в лабиринте.
-     *
-     * @param current текущая координата.
-     * @param maze лабиринт, в котором находятся координаты.
-     * @return список соседних координат.
-     */
-    protected List<Coordinate> getNeighbors(Coordinate current, Maze maze) {
-        List<Coordinate> neighbors = new ArrayList<>();
-
-        for (Direction direction : Direction.values()) {
-            int row = current.row() + direction.rowOffset();
-            int col = current.col() + direction.colOffset();
-
-            if (row >= 0 && row < maze.height() && col >= 0 && col < maze.width()) {
-                if (maze.grid()[row][col].type() != Cell.Type.WALL) {
-                    neighbors.add(new Coordinate(row, col));
-                }
-            }
-        }
-        return neighbors;
-    }
-
-    /**
-     * Вложенный класс, представляющий узел в поисковом алгоритме.
-     */
-    protected static class Node {
-        Coordinate coordinate;
-        Node parent;
-        int cost;
-
-        public Node(Coordinate coordinate, Node parent, int cost) {
-            this.coordinate = coordinate;
-            this.parent = parent;
-            this.cost = cost;
-        }
-    }
 }
@@ -0,0 +1,23 @@
+package maze.solver;
+
+/**
+ * Класс {@code BidirectionalAStarSolver} реализует двунаправленный A* с усредненным потенциалом:
+ * прямой поиск использует потенциал {@code (h_end - h_start) / 2}, обратный - противоположный ему,
+ * где {@code h} - манхэттенское расстояние, умноженное на стоимость дороги
+ * ({@link ManhattanHeuristic#CHEAPEST_CELL}). Такой потенциал согласован для обоих направлений,
+ * поэтому критерий остановки двунаправленного алгоритма Дейкстры остается верным и путь оптимален.
+ */
+public class BidirectionalAStarSolver extends BidirectionalSolver {
+    /**
+     * Рассчитывает удвоенный потенциал ячейки как разность оценок
+     * до конечной и до начальной точки.
+     *
+     * @param index индекс ячейки.
+     * @return удвоенный потенциал ячейки.
+     */
+    @Override
+    protected int potential(int index) {
+        Heuristic heuristic = ManhattanHeuristic.CHEAPEST_CELL;
+        return heuristic.estimate(grid, index, endIndex) - heuristic.estimate(grid, index, grid.index(start));
+    }
+}
@@ -0,0 +1,212 @@
+package maze.solver;
+
+import java.util.Collections;
+import java.util.List;
+import maze.model.Coordinate;
+import maze.model.Direction;
+import maze.model.Grid;
+
+/**
+ * Класс {@code BidirectionalSolver} реализует двунаправленный алгоритм Дейкстры: поиск ведется одновременно
+ * от начальной точки и от конечной, на каждом шаге раскрывается сторона с меньшей очередью.
+ * Стоимость ребра - стоимость ячейки, в которую входит путь, поэтому обратный поиск, переходя из ячейки
+ * {@code x} в соседнюю {@code y}, платит стоимость {@code x}.
+ * Лучшая найденная стоимость пути {@code mu} обновляется при каждой релаксации ребра, ведущего в ячейку,
+ * уже достигнутую другой стороной. Поиск останавливается, когда сумма минимальных ключей обеих очередей
+ * не меньше {@code mu}: никакой еще не найденный путь не может быть дешевле, поэтому путь оптимален.
+ * Прямой поиск использует состояние и очередь {@link BaseSolver}, обратный - собственные.
+ * Подклассы могут задать потенциал ячейки {@link #potential(int)} (двунаправленный A*).
+ */
+public class BidirectionalSolver extends BaseSolver {
+    private static final int NONE = -1;
+
+    protected Coordinate start;
+
+    private final SearchState forward;
+    private final SearchState backward = new SearchState();
+    private final IndexedMinHeap forwardNodes;
+    private final IndexedMinHeap backwardNodes = new IndexedMinHeap();
+
+    private int bestCost;
+    private int meetingFrom;
+    private int meetingTo;
+
+    public BidirectionalSolver() {
+        this(new IndexedMinHeap(), new SearchState());
+    }
+
+    private BidirectionalSolver(IndexedMinHeap forwardNodes, SearchState forward) {
+        super(forwardNodes, forward);
+        this.forwardNodes = forwardNodes;
+        this.forward = forward;
+    }
+
+    /**
+     * Решает лабиринт двунаправленным поиском.
+     *
+     * @param grid  сетка лабиринта, в которой необходимо найти путь.
+     * @param start начальная точка.
+     * @param end   конечная точка.
+     * @return оптимальный путь от начальной до конечной точки или пустой список, если путь не найден.
+     */
+    @Override
+    protected List<Coordinate> search(Grid grid, Coordinate start, Coordinate end) {
+        this.start = start;
+        this.end = end;
+        this.width = grid.width();
+        this.grid = grid;
+        this.endIndex = grid.index(end);
+
+        int startIndex = grid.index(start);
+        prepare(grid.size(), startIndex, endIndex);
+        if (startIndex == endIndex) {
+            return forward.pathTo(startIndex, width);
+        }
+
+        for (int step = 1; !forwardNodes.isEmpty() && !backwardNodes.isEmpty(); step++) {
+            checkInterrupted(step);
+            if ((long) forwardNodes.peekKey() + backwardNodes.peekKey() >= 2L * bestCost) {
+                break;
+            }
+            if (forwardNodes.size() <= backwardNodes.size()) {
+                expandForward(forwardNodes.poll());
+            } else {
+                expandBackward(backwardNodes.poll());
+            }
+        }
+
+        if (meetingFrom == NONE) {
+            return Collections.emptyList();
+        }
+        List<Coordinate> path = forward.pathTo(meetingFrom, width);
+        backward.appendChain(meetingTo, width, path);
+        return path;
+    }
+
+    private void prepare(int capacity, int startIndex, int targetIndex) {
+        forward.reset(capacity);
+        backward.reset(capacity);
+        forwardNodes.ensureCapacity(capacity);
+        backwardNodes.ensureCapacity(capacity);
+        bestCost = SearchState.UNREACHED;
+        meetingFrom = NONE;
+        meetingTo = NONE;
+
+        forward.update(startIndex, 0, SearchState.NO_PARENT);
+        backward.update(targetIndex, 0, SearchState.NO_PARENT);
+        forwardNodes.insertOrDecrease(startIndex, calculatePriority(startIndex, 0));
+        backwardNodes.insertOrDecrease(targetIndex, calculateBackwardPriority(targetIndex, 0));
+        stats().opened(forwardNodes.size() + backwardNodes.size());
+    }
+
+    /**
+     * Раскрывает ячейку прямого поиска: ребро {@code current -> neighbor} стоит столько же, сколько {@code neighbor}.
+     */
+    private void expandForward(int current) {
+        forward.close(current);
+        stats().expanded();
+        int row = current / width;
+        int col = current - row * width;
+        int currentCost = forward.cost(current);
+
+        for (Direction direction : DIRECTIONS) {
+            int neighborRow = row + direction.rowOffset();
+            int neighborCol = col + direction.colOffset();
+            if (!grid.contains(neighborRow, neighborCol) || grid.isWall(grid.index(neighborRow, neighborCol))) {
+                continue;
+            }
+
+            int neighbor = grid.index(neighborRow, neighborCol);
+            int newCost = currentCost + getCostForCellType(grid.type(neighbor));
+            updateBest(newCost, backward.cost(neighbor), current, neighbor);
+            if (!forward.isClosed(neighbor) && newCost < forward.cost(neighbor)) {
+                forward.update(neighbor, newCost, current);
+                forwardNodes.insertOrDecrease(neighbor, calculatePriority(neighbor, newCost));
+                stats().relaxed(forwardNodes.size() + backwardNodes.size());
+            }
+        }
+    }
+
+    /**
+     * Раскрывает ячейку обратного поиска: ребро {@code neighbor -> current} стоит столько же, сколько {@code current}.
+     */
+    private void expandBackward(int current) {
+        backward.close(current);
+        stats().expanded();
+        int row = current / width;
+        int col = current - row * width;
+        int newCost = backward.cost(current) + getCostForCellType(grid.type(current));
+
+        for (Direction direction : DIRECTIONS) {
+            int neighborRow = row + direction.rowOffset();
+            int neighborCol = col + direction.colOffset();
+            if (!grid.contains(neighborRow, neighborCol) || grid.isWall(grid.index(neighborRow, neighborCol))) {
+                continue;
+            }
+
+            int neighbor = grid.index(neighborRow, neighborCol);
+            updateBest(forward.cost(neighbor), newCost, neighbor, current);
+            if (!backward.isClosed(neighbor) && newCost < backward.cost(neighbor)) {
+                backward.update(neighbor, newCost, current);
+                backwardNodes.insertOrDecrease(neighbor, calculateBackwardPriority(neighbor, newCost));
+                stats().relaxed(forwardNodes.size() + backwardNodes.size());
+            }
+        }
+    }
+
+    /**
+     * Обновляет лучший путь, проходящий через ребро {@code from -> to}.
+     * Стоимость ребра учтена ровно в одном из слагаемых.
+     *
+     * @param forwardCost  стоимость части пути, найденной прямым поиском
+     * @param backwardCost стоимость части пути, найденной обратным поиском
+     * @param from         ячейка, достигнутая прямым поиском
+     * @param to           ячейка, достигнутая обратным поиском
+     */
+    private void updateBest(int forwardCost, int backwardCost, int from, int to) {
+        if (forwardCost == SearchState.UNREACHED || backwardCost == SearchState.UNREACHED) {
+            return;
+        }
+        int total = forwardCost + backwardCost;
+        if (total < bestCost) {
+            bestCost = total;
+            meetingFrom = from;
+            meetingTo = to;
+        }
+    }
+
+    /**
+     * Рассчитывает приоритет прямого поиска: удвоенная стоимость пути плюс потенциал ячейки.
+     *
+     * @param index индекс ячейки.
+     * @param cost  стоимость пути от начальной точки до ячейки.
+     * @return приоритет ячейки.
+     */
+    @Override
+    protected int calculatePriority(int index, int cost) {
+        return 2 * cost + potential(index);
+    }
+
+    /**
+     * Рассчитывает приоритет обратного поиска: удвоенная стоимость пути до конечной точки минус потенциал ячейки.
+     *
+     * @param index индекс ячейки.
+     * @param cost  стоимость пути от ячейки до конечной точки.
+     * @return приоритет ячейки.
+     */
+    protected int calculateBackwardPriority(int index, int cost) {
+        return 2 * cost - potential(index);
+    }
+
+    /**
+     * Потенциал ячейки, общий для обоих направлений (прямой поиск прибавляет его, обратный - вычитает).
+     * Ключи удвоены, чтобы потенциал, равный полуразности эвристик, оставался целым.
+     * Потенциал должен меняться за шаг не больше, чем на удвоенную минимальную стоимость ячейки.
+     *
+     * @param index индекс ячейки.
+     * @return удвоенный потенциал; для алгоритма Дейкстры - 0.
+     */
+    protected int potential(int index) {
+        return 0;
+    }
+}
@@ -0,0 +1,14 @@
+package maze.solver;
+
+/**
+ * Класс {@code BucketAStarSolver} реализует алгоритм A* с очередью корзин по значениям f = g + h.
+ * Используется манхэттенская эвристика {@link ManhattanHeuristic#CHEAPEST_CELL}: за шаг она растет
+ * не более чем на {@link #ROAD_COST}, а стоимость шага не больше {@link #DESERT_COST}, поэтому приоритет
+ * новой ячейки превышает минимальный не более чем на {@code DESERT_COST + ROAD_COST}
+ * и циклической очереди из такого числа корзин достаточно.
+ */
+public class BucketAStarSolver extends AStarSolver {
+    public BucketAStarSolver() {
+        super(new BucketQueue(DESERT_COST + ROAD_COST), ManhattanHeuristic.CHEAPEST_CELL);
+    }
+}
@@ -0,0 +1,116 @@
+package maze.solver;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Циклическая очередь с корзинами (очередь Дейкстры-Дайала) для монотонных целочисленных приоритетов.
+ * Если каждый новый приоритет больше последнего извлеченного не более чем на {@code maxStep},
+ * хватает {@code maxStep + 1} корзин, и добавление, уменьшение приоритета и извлечение выполняются за O(1).
+ * Корзины - это двусвязные списки на массивах {@code int[]}, индексируемых номером ячейки,
+ * поэтому очередь не создает объектов при работе.
+ */
+final class BucketQueue implements OpenSet {
+    private static final int NONE = -1;
+
+    private final int bucketCount;
+    private final int[] heads;
+    private int[] next = new int[0];
+    private int[] previous = new int[0];
+    private int[] keys = new int[0];
+    private final BitSet queued = new BitSet();
+    private int size;
+    /**
+     * Последний извлеченный приоритет; все приоритеты в очереди не меньше него.
+     */
+    private int cursor;
+
+    /**
+     * Создает очередь для приоритетов, растущих за один шаг не более чем на {@code maxStep}.
+     *
+     * @param maxStep максимальная разница между добавляемым и минимальным приоритетом
+     */
+    BucketQueue(int maxStep) {
+        this.bucketCount = maxStep + 1;
+        this.heads = new int[bucketCount];
+        Arrays.fill(heads, NONE);
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (keys.length < capacity) {
+            next = new int[capacity];
+            previous = new int[capacity];
+            keys = new int[capacity];
+        }
+        Arrays.fill(heads, NONE);
+        queued.clear();
+        size = 0;
+        cursor = NONE;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Добавляет индекс или переносит его в корзину с меньшим приоритетом.
+     *
+     * @param index индекс ячейки
+     * @param key   приоритет
+     */
+    @Override
+    public void insertOrDecrease(int index, int key) {
+        if (cursor == NONE) {
+            cursor = key;
+        }
+        if (queued.get(index)) {
+            if (key >= keys[index]) {
+                return;
+            }
+            unlink(index);
+        }
+        keys[index] = key;
+        int bucket = key % bucketCount;
+        next[index] = heads[bucket];
+        previous[index] = NONE;
+        if (heads[bucket] != NONE) {
+            previous[heads[bucket]] = index;
+        }
+        heads[bucket] = index;
+        queued.set(index);
+        size++;
+    }
+
+    @Override
+    public int poll() {
+        int bucket = cursor % bucketCount;
+        while (heads[bucket] == NONE) {
+            cursor++;
+            bucket = cursor % bucketCount;
+        }
+        int index = heads[bucket];
+        unlink(index);
+        return index;
+    }
+
+    private void unlink(int index) {
+        int bucket = keys[index] % bucketCount;
+        if (previous[index] == NONE) {
+            heads[bucket] = next[index];
+        } else {
+            next[previous[index]] = next[index];
+        }
+        if (next[index] != NONE) {
+            previous[next[index]] = previous[index];
+        }
+        queued.clear(index);
+        size--;
+    }
+}
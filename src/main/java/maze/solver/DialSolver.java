@@ -0,0 +1,25 @@
+package maze.solver;
+
+/**
+ * Класс {@code DialSolver} реализует алгоритм Дейкстры с очередью Дайала.
+ * Стоимости ячеек - небольшие целые числа (не больше {@link #DESERT_COST}), поэтому вместо кучи
+ * используется циклическая очередь из {@code DESERT_COST + 1} корзин, в которой все операции выполняются за O(1).
+ * Находит пути той же стоимости, что и {@link DijkstraSolver}.
+ */
+public class DialSolver extends BaseSolver {
+    public DialSolver() {
+        super(new BucketQueue(DESERT_COST));
+    }
+
+    /**
+     * Рассчитывает приоритет ячейки как стоимость пути от начальной точки.
+     *
+     * @param index индекс ячейки, для которой нужно рассчитать приоритет.
+     * @param cost  стоимость пути до ячейки.
+     * @return стоимость ячейки как приоритет.
+     */
+    @Override
+    protected int calculatePriority(int index, int cost) {
+        return cost;
+    }
+}
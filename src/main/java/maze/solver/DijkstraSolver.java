@@ -7,15 +7,16 @@ package maze.solver;
  */
 public class DijkstraSolver extends BaseSolver {
     /**
-     * Рассчитывает приоритет узла (стоимость), который
+     * Рассчитывает приоритет ячейки (стоимость), который
      * представляет собой сумму стоимостей ячеек от начальной
-     * точки до данного узла.
+     * точки до данной ячейки.
      *
-     * @param node узел, для которого нужно рассчитать приоритет.
-     * @return стоимость узла как приоритет.
+     * @param index индекс ячейки, для которой нужно рассчитать приоритет.
+     * @param cost  стоимость пути до ячейки.
+     * @return стоимость ячейки как приоритет.
      */
     @Override
-    protected int calculatePriority(BaseSolver.Node node) {
-        return node.cost;
+    protected int calculatePriority(int index, int cost) {
+        return cost;
     }
 }
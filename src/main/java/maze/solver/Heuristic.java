@@ -0,0 +1,27 @@
+package maze.solver;
+
+import maze.model.Grid;
+
+/**
+ * Интерфейс {@code Heuristic} определяет эвристику для {@link AStarSolver}: оценку снизу стоимости пути
+ * между двумя ячейками сетки, заданными линейными индексами.
+ * Чтобы A* находил оптимальный путь, оценка должна быть допустимой (не превышать реальную стоимость)
+ * и согласованной (уменьшаться за шаг не больше, чем на стоимость шага).
+ */
+@FunctionalInterface
+public interface Heuristic {
+    /**
+     * Нулевая эвристика: A* с ней раскрывает ячейки так же, как алгоритм Дейкстры.
+     */
+    Heuristic ZERO = (grid, index, target) -> 0;
+
+    /**
+     * Оценивает стоимость пути от ячейки до целевой ячейки.
+     *
+     * @param grid   сетка лабиринта.
+     * @param index  индекс ячейки.
+     * @param target индекс целевой ячейки.
+     * @return оценка снизу стоимости пути.
+     */
+    int estimate(Grid grid, int index, int target);
+}
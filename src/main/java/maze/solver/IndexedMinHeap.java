@@ -0,0 +1,160 @@
+package maze.solver;
+
+import java.util.Arrays;
+
+/**
+ * Двоичная min-куча над целочисленными индексами ячеек с операцией уменьшения ключа.
+ * Хранит для каждого индекса его позицию в куче, поэтому проверка наличия и уменьшение ключа
+ * выполняются без поиска, а сама куча не создает объектов при работе.
+ * Экземпляр можно переиспользовать между запусками через {@link #clear()}.
+ */
+final class IndexedMinHeap implements OpenSet {
+    private static final int ABSENT = -1;
+
+    private int[] heap = new int[0];
+    private int[] positions = new int[0];
+    private int[] keys = new int[0];
+    private int size;
+
+    /**
+     * Гарантирует, что в куче можно хранить индексы из диапазона {@code [0, capacity)}.
+     * Содержимое кучи при этом очищается.
+     *
+     * @param capacity количество допустимых индексов
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (positions.length < capacity) {
+            heap = new int[capacity];
+            positions = new int[capacity];
+            keys = new int[capacity];
+            Arrays.fill(positions, ABSENT);
+            size = 0;
+        } else {
+            clear();
+        }
+    }
+
+    /**
+     * Очищает кучу за время, пропорциональное ее текущему размеру.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    boolean contains(int index) {
+        return positions[index] != ABSENT;
+    }
+
+    /**
+     * Добавляет индекс с заданным ключом или уменьшает ключ уже находящегося в куче индекса.
+     * Если индекс уже в куче с ключом не больше нового, ничего не меняется.
+     *
+     * @param index индекс ячейки
+     * @param key   приоритет
+     */
+    @Override
+    public void insertOrDecrease(int index, int key) {
+        int position = positions[index];
+        if (position == ABSENT) {
+            keys[index] = key;
+            heap[size] = index;
+            positions[index] = size;
+            siftUp(size++);
+        } else if (key < keys[index]) {
+            keys[index] = key;
+            siftUp(position);
+        }
+    }
+
+    /**
+     * Возвращает ключ индекса, находящегося в куче.
+     *
+     * @param index индекс ячейки
+     * @return текущий приоритет
+     */
+    int key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Возвращает минимальный ключ без извлечения.
+     *
+     * @return минимальный приоритет в непустой куче
+     */
+    int peekKey() {
+        return keys[heap[0]];
+    }
+
+    /**
+     * Извлекает индекс с минимальным ключом.
+     *
+     * @return индекс ячейки
+     */
+    @Override
+    public int poll() {
+        int top = heap[0];
+        positions[top] = ABSENT;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int position) {
+        int current = position;
+        int index = heap[current];
+        int key = keys[index];
+        while (current > 0) {
+            int parent = (current - 1) >>> 1;
+            int parentIndex = heap[parent];
+            if (keys[parentIndex] <= key) {
+                break;
+            }
+            heap[current] = parentIndex;
+            positions[parentIndex] = current;
+            current = parent;
+        }
+        heap[current] = index;
+        positions[index] = current;
+    }
+
+    private void siftDown(int position) {
+        int current = position;
+        int index = heap[current];
+        int key = keys[index];
+        int half = size >>> 1;
+        while (current < half) {
+            int child = 2 * current + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            int childIndex = heap[child];
+            if (key <= keys[childIndex]) {
+                break;
+            }
+            heap[current] = childIndex;
+            positions[childIndex] = current;
+            current = child;
+        }
+        heap[current] = index;
+        positions[index] = current;
+    }
+}
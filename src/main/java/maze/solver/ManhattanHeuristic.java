@@ -0,0 +1,40 @@
+package maze.solver;
+
+import maze.model.Grid;
+
+/**
+ * Манхэттенская эвристика, умноженная на стоимость одного шага.
+ * Перемещение возможно только по четырем направлениям, поэтому манхэттенское расстояние - это точное
+ * число шагов на пустой сетке. Если стоимость шага не больше стоимости самой дешевой ячейки, оценка допустима
+ * и согласована; {@link #CHEAPEST_CELL} использует стоимость дороги и дает самую точную такую оценку.
+ */
+public final class ManhattanHeuristic implements Heuristic {
+    /**
+     * Манхэттенское расстояние без масштабирования (стоимость шага равна 1).
+     */
+    public static final ManhattanHeuristic UNIT = new ManhattanHeuristic(1);
+
+    /**
+     * Манхэттенское расстояние, умноженное на стоимость самой дешевой ячейки (дороги).
+     */
+    public static final ManhattanHeuristic CHEAPEST_CELL = new ManhattanHeuristic(BaseSolver.ROAD_COST);
+
+    private final int stepCost;
+
+    /**
+     * Создает эвристику с заданной стоимостью шага.
+     *
+     * @param stepCost стоимость одного шага; для допустимости не больше стоимости самой дешевой ячейки.
+     */
+    public ManhattanHeuristic(int stepCost) {
+        this.stepCost = stepCost;
+    }
+
+    @Override
+    public int estimate(Grid grid, int index, int target) {
+        int width = grid.width();
+        int rowDistance = Math.abs(index / width - target / width);
+        int colDistance = Math.abs(index % width - target % width);
+        return stepCost * (rowDistance + colDistance);
+    }
+}
@@ -0,0 +1,40 @@
+package maze.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR о поиске пути решателем {@link BaseSolver}; поля повторяют {@link SearchStats}.
+ */
+@Name("maze.MazeSolved")
+@Label("Maze Solved")
+@Category("Maze")
+@Description("Поиск пути в лабиринте")
+@StackTrace(false)
+final class MazeSolvedEvent extends Event {
+    @Label("Height")
+    int height;
+
+    @Label("Width")
+    int width;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Nodes Expanded")
+    long nodesExpanded;
+
+    @Label("Relaxations")
+    long relaxations;
+
+    @Label("Peak Open Nodes")
+    int peakOpenNodes;
+
+    @Label("Path Length")
+    @Description("Количество клеток пути; 0, если путь не найден")
+    int pathLength;
+}
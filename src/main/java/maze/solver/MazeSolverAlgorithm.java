@@ -4,6 +4,31 @@ package maze.solver;
  * {@code MazeSolverAlgorithm}  определяет доступные алгоритмы для решения лабиринтов.
  * Доступные алгоритмы:
  * - {@code ASTAR} - алгоритм A* для поиска оптимального пути;
- * - {@code DIJKSTRA} - алгоритм Дейкстры для поиска кратчайшего пути.
+ * - {@code DIJKSTRA} - алгоритм Дейкстры для поиска кратчайшего пути;
+ * - {@code DIAL} - алгоритм Дейкстры с очередью корзин (алгоритм Дайала);
+ * - {@code BUCKET_ASTAR} - алгоритм A* с очередью корзин;
+ * - {@code BIDIRECTIONAL_DIJKSTRA} - двунаправленный алгоритм Дейкстры;
+ * - {@code BIDIRECTIONAL_ASTAR} - двунаправленный алгоритм A*;
+ * - {@code ASTAR_ALT} - алгоритм A* с эвристикой по ориентирам ({@link AltHeuristic}), таблицы которой
+ * строятся один раз на лабиринт.
  */
-public enum MazeSolverAlgorithm { ASTAR, DIJKSTRA }
+public enum MazeSolverAlgorithm {
+    ASTAR, DIJKSTRA, DIAL, BUCKET_ASTAR, BIDIRECTIONAL_DIJKSTRA, BIDIRECTIONAL_ASTAR, ASTAR_ALT;
+
+    /**
+     * Создает решатель выбранного алгоритма.
+     *
+     * @return решатель лабиринта
+     */
+    public Solver create() {
+        return switch (this) {
+            case ASTAR -> new AStarSolver();
+            case DIJKSTRA -> new DijkstraSolver();
+            case DIAL -> new DialSolver();
+            case BUCKET_ASTAR -> new BucketAStarSolver();
+            case BIDIRECTIONAL_DIJKSTRA -> new BidirectionalSolver();
+            case BIDIRECTIONAL_ASTAR -> new BidirectionalAStarSolver();
+            case ASTAR_ALT -> new AStarSolver(AltHeuristic.perGrid());
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package maze.solver;
+
+/**
+ * Очередь открытых ячеек для {@link BaseSolver}: хранит линейные индексы ячеек с целочисленными приоритетами
+ * и поддерживает уменьшение приоритета уже добавленной ячейки.
+ */
+interface OpenSet {
+    /**
+     * Подготавливает очередь к запуску на сетке из {@code capacity} ячеек и очищает ее.
+     *
+     * @param capacity количество ячеек сетки
+     */
+    void ensureCapacity(int capacity);
+
+    boolean isEmpty();
+
+    int size();
+
+    /**
+     * Добавляет индекс с заданным приоритетом или уменьшает приоритет уже добавленного индекса.
+     *
+     * @param index индекс ячейки
+     * @param key   приоритет
+     */
+    void insertOrDecrease(int index, int key);
+
+    /**
+     * Извлекает индекс с минимальным приоритетом.
+     *
+     * @return индекс ячейки
+     */
+    int poll();
+}
@@ -0,0 +1,15 @@
+package maze.solver;
+
+/**
+ * Слушатель, которого {@link BaseSolver} уведомляет о завершении каждого поиска пути.
+ * Вызывается в потоке, выполнившем поиск.
+ */
+@FunctionalInterface
+public interface SearchListener {
+    /**
+     * Вызывается после завершения поиска, в том числе безуспешного.
+     *
+     * @param stats счетчики поиска; объект переиспользуется решателем и действителен до следующего поиска
+     */
+    void searchFinished(SearchStats stats);
+}
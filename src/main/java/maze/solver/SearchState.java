@@ -0,0 +1,115 @@
+package maze.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import maze.model.Coordinate;
+
+/**
+ * Переиспользуемое состояние поиска по линейным индексам ячеек: стоимости пути ({@code int[]}),
+ * ссылки на родителей ({@code int[]}) и множество закрытых ячеек ({@link BitSet}).
+ * Чтобы не заполнять массивы заново перед каждым запуском, стоимость считается известной только
+ * для ячеек, отмеченных текущим номером запуска.
+ */
+final class SearchState {
+    static final int NO_PARENT = -1;
+    static final int UNREACHED = Integer.MAX_VALUE;
+
+    private int[] costs = new int[0];
+    private int[] parents = new int[0];
+    private int[] stamps = new int[0];
+    private final BitSet closed = new BitSet();
+    private int stamp;
+
+    /**
+     * Подготавливает состояние к новому запуску на сетке из {@code capacity} ячеек.
+     *
+     * @param capacity количество ячеек сетки
+     */
+    void reset(int capacity) {
+        if (stamps.length < capacity) {
+            costs = new int[capacity];
+            parents = new int[capacity];
+            stamps = new int[capacity];
+            stamp = 0;
+        }
+        stamp++;
+        if (stamp == 0) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+        closed.clear();
+    }
+
+    /**
+     * Возвращает известную стоимость пути до ячейки.
+     *
+     * @param index индекс ячейки
+     * @return стоимость или {@link #UNREACHED}, если ячейка еще не достигнута
+     */
+    int cost(int index) {
+        return stamps[index] == stamp ? costs[index] : UNREACHED;
+    }
+
+    /**
+     * Запоминает новую стоимость пути до ячейки и ее родителя.
+     *
+     * @param index  индекс ячейки
+     * @param cost   стоимость пути
+     * @param parent индекс родительской ячейки или {@link #NO_PARENT}
+     */
+    void update(int index, int cost, int parent) {
+        stamps[index] = stamp;
+        costs[index] = cost;
+        parents[index] = parent;
+    }
+
+    int parent(int index) {
+        return parents[index];
+    }
+
+    void close(int index) {
+        closed.set(index);
+    }
+
+    boolean isClosed(int index) {
+        return closed.get(index);
+    }
+
+    /**
+     * Восстанавливает путь от стартовой ячейки до заданной по ссылкам на родителей.
+     *
+     * @param index индекс конечной ячейки
+     * @param width ширина сетки
+     * @return список координат от старта до заданной ячейки
+     */
+    List<Coordinate> pathTo(int index, int width) {
+        int length = 0;
+        for (int current = index; current != NO_PARENT; current = parents[current]) {
+            length++;
+        }
+
+        Coordinate[] path = new Coordinate[length];
+        int current = index;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = new Coordinate(current / width, current % width);
+            current = parents[current];
+        }
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Дописывает в путь цепочку ячеек от заданной до корня поиска (в порядке обхода родителей).
+     * Используется для обратного поиска, корнем которого является конечная точка.
+     *
+     * @param index индекс первой ячейки цепочки
+     * @param width ширина сетки
+     * @param path  путь, в который дописываются координаты
+     */
+    void appendChain(int index, int width, List<Coordinate> path) {
+        for (int current = index; current != NO_PARENT; current = parents[current]) {
+            path.add(new Coordinate(current / width, current % width));
+        }
+    }
+}
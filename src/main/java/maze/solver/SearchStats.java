@@ -0,0 +1,87 @@
+package maze.solver;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Класс {@code SearchStats} содержит счетчики последнего поиска пути, выполненного {@link BaseSolver}.
+ * Счетчики - примитивные поля единственного объекта, принадлежащего решателю, поэтому их сбор не создает
+ * объектов. Объект перезаписывается при каждом вызове {@code solve}: значения нужно прочитать до следующего
+ * поиска, например в {@link SearchListener}.
+ */
+@Getter
+@ToString
+public final class SearchStats {
+    /**
+     * Количество раскрытых ячеек.
+     */
+    private long expandedNodes;
+    /**
+     * Количество успешных релаксаций - случаев, когда найден более дешевый путь до соседней ячейки.
+     */
+    private long relaxations;
+    /**
+     * Наибольший размер очереди открытых ячеек (для двунаправленного поиска - обеих очередей).
+     */
+    private int peakOpenNodes;
+    /**
+     * Количество ячеек найденного пути; 0, если путь не найден.
+     */
+    private int pathLength;
+    /**
+     * Время поиска в наносекундах.
+     */
+    private long elapsedNanos;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long startNanos;
+
+    /**
+     * Сбрасывает счетчики перед новым поиском.
+     */
+    void start() {
+        expandedNodes = 0;
+        relaxations = 0;
+        peakOpenNodes = 0;
+        pathLength = 0;
+        elapsedNanos = 0;
+        startNanos = System.nanoTime();
+    }
+
+    void expanded() {
+        expandedNodes++;
+    }
+
+    /**
+     * Учитывает успешную релаксацию и размер очереди после нее.
+     *
+     * @param openNodes количество открытых ячеек
+     */
+    void relaxed(int openNodes) {
+        relaxations++;
+        opened(openNodes);
+    }
+
+    /**
+     * Учитывает текущий размер очереди открытых ячеек.
+     *
+     * @param openNodes количество открытых ячеек
+     */
+    void opened(int openNodes) {
+        if (openNodes > peakOpenNodes) {
+            peakOpenNodes = openNodes;
+        }
+    }
+
+    /**
+     * Завершает поиск.
+     *
+     * @param length количество ячеек найденного пути
+     */
+    void finish(int length) {
+        pathLength = length;
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+}
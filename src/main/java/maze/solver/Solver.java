@@ -2,11 +2,17 @@ package maze.solver;
 
 import java.util.List;
 import maze.model.Coordinate;
+import maze.model.Grid;
 import maze.model.Maze;
 
 /**
  * Интерфейс {@code Solver} определяет контракт для реализации алгоритмов решения лабиринтов.
+ * Поиск работает с любой сеткой {@link Grid}, в том числе отображенной из файла без копирования.
  */
 public interface Solver {
-    List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end);
+    List<Coordinate> solve(Grid grid, Coordinate start, Coordinate end);
+
+    default List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return solve(maze.grid(), start, end);
+    }
 }
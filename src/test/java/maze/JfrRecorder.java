@@ -0,0 +1,46 @@
+package maze;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Запись событий JFR в тестах: включает событие, выполняет действие и читает записанное из временного файла.
+ */
+public final class JfrRecorder {
+    private JfrRecorder() {
+    }
+
+    /**
+     * Действие, во время которого записываются события.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * Записывает события одного типа, возникшие во время действия.
+     *
+     * @param event  имя события
+     * @param action действие
+     * @return записанные события
+     * @throws Exception если действие завершилось ошибкой или запись не удалось прочитать
+     */
+    public static List<RecordedEvent> record(String event, Action action) throws Exception {
+        Path file = Files.createTempFile("maze", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(event);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
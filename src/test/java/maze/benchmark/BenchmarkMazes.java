@@ -0,0 +1,39 @@
+package maze.benchmark;
+
+import java.util.SplittableRandom;
+import maze.generator.MazeGenerator;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+
+/**
+ * Общие входные данные замеров.
+ */
+final class BenchmarkMazes {
+    static final long SEED = 42L;
+
+    private BenchmarkMazes() {
+    }
+
+    /**
+     * Строит лабиринт алгоритмом Прима и дополнительно открывает заданную долю стен.
+     *
+     * @param size        сторона квадратного лабиринта
+     * @param loopPercent процент стен, превращаемых в проходы
+     * @return лабиринт со стартом и финишем в противоположных углах
+     */
+    static Maze withLoops(int size, int loopPercent) {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(size - 1, size - 1);
+        Maze maze = MazeGenerator.PRIMS.create(start, end, size, size, SEED).generate();
+        CellGrid grid = maze.grid();
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int index = 0; index < grid.size(); index++) {
+            if (grid.isWall(index) && random.nextInt(100) < loopPercent) {
+                grid.set(index, Cell.Type.PASSAGE);
+            }
+        }
+        return maze;
+    }
+}
@@ -0,0 +1,28 @@
+package maze.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Запускает замеры с профилировщиком сборки мусора ({@code gc.alloc.rate.norm} - байт на операцию).
+ * Аргументы передаются JMH как есть, например {@code Solver -p size=1000 -p loopPercent=15};
+ * без аргументов выполняются все замеры пакета.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(new CommandLineOptions(args));
+        if (args.length == 0) {
+            options.include(BenchmarkRunner.class.getPackageName() + ".*Benchmark");
+        }
+        options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
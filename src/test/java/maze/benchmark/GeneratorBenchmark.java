@@ -0,0 +1,49 @@
+package maze.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Замеры генераторов лабиринтов на квадратных лабиринтах разного размера.
+ * Зерно фиксировано, поэтому каждая операция строит один и тот же лабиринт.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+    @Param({"100", "500", "1000", "2000", "4000"})
+    private int size;
+
+    @Param({"PRIMS", "RECURSIVE_BACKTRACKER"})
+    private MazeGenerator algorithm;
+
+    private Coordinate start;
+    private Coordinate end;
+
+    @Setup
+    public void setUp() {
+        start = new Coordinate(0, 0);
+        end = new Coordinate(size - 1, size - 1);
+    }
+
+    @Benchmark
+    public Maze generate() {
+        return algorithm.create(start, end, size, size, BenchmarkMazes.SEED).generate();
+    }
+}
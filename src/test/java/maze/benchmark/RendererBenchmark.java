@@ -0,0 +1,101 @@
+package maze.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import maze.io.MazeTextRenderer;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.DijkstraSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Замеры текстовой визуализации решенного лабиринта: в строку и потоково в канал, отбрасывающий данные.
+ * Параллельно по полосам выводится только запись в канал, поэтому параметр {@code parallelism} задан
+ * в отдельном состоянии {@link ChannelRenderer} и не размножает замеры {@link #renderString()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RendererBenchmark {
+    @Param({"100", "500", "1000", "2000", "4000"})
+    private int size;
+
+    private Maze maze;
+    private List<Coordinate> path;
+    private final MazeTextRenderer renderer = new MazeTextRenderer();
+
+    @Setup
+    public void setUp() {
+        maze = BenchmarkMazes.withLoops(size, 0);
+        path = new DijkstraSolver().solve(maze, maze.start(), maze.end());
+    }
+
+    @Benchmark
+    public String renderString() {
+        return renderer.render(maze, path);
+    }
+
+    @Benchmark
+    public long renderToChannel(ChannelRenderer state) throws IOException {
+        state.channel.written = 0;
+        state.renderer.render(maze, path, state.channel);
+        return state.channel.written;
+    }
+
+    /**
+     * Визуализатор для записи в канал с заданным числом параллельно выводимых полос.
+     */
+    @State(Scope.Benchmark)
+    public static class ChannelRenderer {
+        @Param({"1", "4"})
+        private int parallelism;
+
+        private MazeTextRenderer renderer;
+        private final DiscardingChannel channel = new DiscardingChannel();
+
+        @Setup
+        public void setUp() {
+            renderer = new MazeTextRenderer().parallelism(parallelism);
+        }
+    }
+
+    /**
+     * Канал, который только подсчитывает записанные байты.
+     */
+    private static final class DiscardingChannel implements WritableByteChannel {
+        private long written;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int length = source.remaining();
+            source.position(source.limit());
+            written += length;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
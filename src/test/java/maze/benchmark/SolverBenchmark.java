@@ -0,0 +1,54 @@
+package maze.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.MazeSolverAlgorithm;
+import maze.solver.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Замеры поиска пути из угла в угол. Плотность циклов - доля стен, дополнительно открытых
+ * поверх циклов генератора: чем больше циклов, тем больше альтернативных маршрутов раскрывает поиск.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+    @Param({"100", "500", "1000", "2000", "4000"})
+    private int size;
+
+    @Param({"0", "5", "15", "30"})
+    private int loopPercent;
+
+    @Param({"ASTAR", "DIJKSTRA"})
+    private MazeSolverAlgorithm algorithm;
+
+    private Maze maze;
+    private Solver solver;
+
+    @Setup
+    public void setUp() {
+        maze = BenchmarkMazes.withLoops(size, loopPercent);
+        solver = algorithm.create();
+    }
+
+    @Benchmark
+    public List<Coordinate> solve() {
+        return solver.solve(maze, maze.start(), maze.end());
+    }
+}
@@ -0,0 +1,56 @@
+package maze.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DisjointSetTest {
+    @Test
+    public void testUnionMergesSetsOnce() {
+        DisjointSet sets = new DisjointSet(6);
+
+        Assertions.assertTrue(sets.union(0, 1));
+        Assertions.assertTrue(sets.union(2, 3));
+        Assertions.assertTrue(sets.union(1, 3));
+        Assertions.assertFalse(sets.union(0, 2));
+
+        Assertions.assertEquals(sets.find(0), sets.find(3));
+        Assertions.assertNotEquals(sets.find(0), sets.find(4));
+        Assertions.assertNotEquals(sets.find(4), sets.find(5));
+    }
+
+    @Test
+    public void testConcurrentUnionBuildsSingleTree() throws InterruptedException {
+        int size = 10_000;
+        ConcurrentDisjointSet sets = new ConcurrentDisjointSet(size);
+        int[] merges = new int[4];
+        Thread[] threads = new Thread[merges.length];
+        for (int worker = 0; worker < threads.length; worker++) {
+            int id = worker;
+            threads[worker] = new Thread(() -> {
+                for (int element = id; element + 1 < size; element += merges.length) {
+                    if (sets.union(element, element + 1)) {
+                        merges[id]++;
+                    }
+                }
+                for (int element = size - 1 - id; element > 0; element -= merges.length) {
+                    if (sets.union(element, 0)) {
+                        merges[id]++;
+                    }
+                }
+            });
+            threads[worker].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int total = 0;
+        for (int count : merges) {
+            total += count;
+        }
+        Assertions.assertEquals(size - 1, total);
+        for (int element = 0; element < size; element++) {
+            Assertions.assertEquals(sets.find(0), sets.find(element));
+        }
+    }
+}
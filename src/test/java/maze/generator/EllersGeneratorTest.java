@@ -0,0 +1,76 @@
+package maze.generator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Direction;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EllersGeneratorTest {
+    private static final long SEED = 7L;
+
+    @Test
+    public void testAllRoomsAndEndpointsAreConnected() {
+        int[][] sizes = {{21, 31}, {20, 30}, {3, 3}, {40, 7}};
+        for (int[] size : sizes) {
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(size[0] - 1, size[1] - 1);
+            Maze maze = new EllersGenerator(start, end, size[0], size[1], SEED).generate();
+
+            boolean[] reached = reachableFrom(maze.grid(), maze.grid().index(start));
+
+            Assertions.assertTrue(reached[maze.grid().index(end)]);
+            for (int row = 0; row < size[0]; row += 2) {
+                for (int col = 0; col < size[1]; col += 2) {
+                    Assertions.assertTrue(reached[maze.grid().index(row, col)], "room " + row + "," + col);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStreamingMatchesFullGeneration() {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(14, 9);
+        Maze maze = new EllersGenerator(start, end, 15, 10, SEED).generate();
+
+        List<Integer> rows = new ArrayList<>();
+        CellGrid streamed = new CellGrid(15, 10);
+        new EllersGenerator(start, end, 15, 10, SEED).generate((row, cells) -> {
+            rows.add(row);
+            for (int col = 0; col < cells.width(); col++) {
+                streamed.set(row, col, cells.type(col));
+            }
+        });
+
+        Assertions.assertEquals(IntStream.range(0, 15).boxed().toList(), rows);
+        Assertions.assertArrayEquals(maze.grid().cells(), streamed.cells());
+    }
+
+    private static boolean[] reachableFrom(CellGrid grid, int source) {
+        boolean[] reached = new boolean[grid.size()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        reached[source] = true;
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            int row = current / grid.width();
+            int col = current % grid.width();
+            for (Direction direction : Direction.values()) {
+                int nextRow = row + direction.rowOffset();
+                int nextCol = col + direction.colOffset();
+                if (grid.contains(nextRow, nextCol) && !grid.isWall(grid.index(nextRow, nextCol))
+                    && !reached[grid.index(nextRow, nextCol)]) {
+                    reached[grid.index(nextRow, nextCol)] = true;
+                    queue.add(grid.index(nextRow, nextCol));
+                }
+            }
+        }
+        return reached;
+    }
+}
@@ -0,0 +1,42 @@
+package maze.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IndexedCellSetTest {
+    @Test
+    public void testAddIgnoresDuplicates() {
+        IndexedCellSet set = new IndexedCellSet(10);
+
+        set.add(3);
+        set.add(7);
+        set.add(3);
+
+        Assertions.assertEquals(2, set.size());
+        Assertions.assertTrue(set.contains(3));
+        Assertions.assertTrue(set.contains(7));
+        Assertions.assertFalse(set.contains(5));
+    }
+
+    @Test
+    public void testRemoveAtMovesLastElementIntoGap() {
+        IndexedCellSet set = new IndexedCellSet(10);
+        set.add(1);
+        set.add(2);
+        set.add(3);
+
+        Assertions.assertEquals(1, set.removeAt(0));
+
+        Assertions.assertEquals(2, set.size());
+        Assertions.assertEquals(3, set.get(0));
+        Assertions.assertEquals(2, set.get(1));
+        Assertions.assertFalse(set.contains(1));
+
+        Assertions.assertEquals(2, set.removeAt(1));
+        Assertions.assertEquals(3, set.removeAt(0));
+        Assertions.assertTrue(set.isEmpty());
+
+        set.add(1);
+        Assertions.assertEquals(1, set.get(0));
+    }
+}
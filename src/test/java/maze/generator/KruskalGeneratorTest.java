@@ -0,0 +1,55 @@
+package maze.generator;
+
+import java.util.concurrent.ForkJoinPool;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.DijkstraSolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KruskalGeneratorTest {
+    private static final long SEED = 5L;
+
+    @Test
+    public void testCarvesSpanningTreeOfRooms() {
+        for (int parallelism : new int[] {1, 4}) {
+            KruskalGenerator generator = new KruskalGenerator(new Coordinate(0, 0), new Coordinate(0, 0), 41, 61, SEED)
+                .parallelism(parallelism);
+            try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                generator.pool(pool).carvePassages();
+            }
+
+            CellGrid grid = generator.params.grid();
+            int rooms = 21 * 31;
+            int passages = 0;
+            for (int index = 0; index < grid.size(); index++) {
+                passages += grid.type(index) == Cell.Type.PASSAGE ? 1 : 0;
+            }
+            Assertions.assertEquals(rooms + rooms - 1, passages, "parallelism " + parallelism);
+
+            Maze maze = new Maze(grid, new Coordinate(0, 0), new Coordinate(40, 60));
+            Assertions.assertFalse(new DijkstraSolver().solve(maze, maze.start(), maze.end()).isEmpty());
+        }
+    }
+
+    @Test
+    public void testEndpointsBetweenRoomsAreReachable() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(19, 29);
+        Maze maze = new KruskalGenerator(start, end, 20, 30, SEED).generate();
+
+        Assertions.assertFalse(new DijkstraSolver().solve(maze, start, end).isEmpty());
+    }
+
+    @Test
+    public void testSequentialModeIsReproducibleFromSeed() {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(30, 30);
+        Maze first = new KruskalGenerator(start, end, 31, 31, SEED).generate();
+        Maze second = new KruskalGenerator(start, end, 31, 31, SEED).generate();
+
+        Assertions.assertArrayEquals(first.grid().cells(), second.grid().cells());
+    }
+}
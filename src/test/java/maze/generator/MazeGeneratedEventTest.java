@@ -0,0 +1,53 @@
+package maze.generator;
+
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import maze.JfrRecorder;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MazeGeneratedEventTest {
+    private static final String EVENT = "maze.MazeGenerated";
+
+    private static List<RecordedEvent> record(JfrRecorder.Action action) throws Exception {
+        return JfrRecorder.record(EVENT, action);
+    }
+
+    @Test
+    public void testGenerateEmitsEvent() throws Exception {
+        Maze[] maze = new Maze[1];
+        List<RecordedEvent> events = record(() ->
+            maze[0] = new PrimsGenerator(new Coordinate(0, 0), new Coordinate(8, 10), 9, 11, 3L).generate());
+
+        Assertions.assertEquals(1, events.size());
+        RecordedEvent event = events.getFirst();
+        long passages = 0;
+        for (int index = 0; index < maze[0].grid().size(); index++) {
+            if (!maze[0].grid().isWall(index)) {
+                passages++;
+            }
+        }
+        Assertions.assertEquals(9, event.getInt("height"));
+        Assertions.assertEquals(11, event.getInt("width"));
+        Assertions.assertEquals("PrimsGenerator", event.getString("algorithm"));
+        Assertions.assertEquals(3L, event.getLong("seed"));
+        Assertions.assertEquals(passages, event.getLong("cellsCarved"));
+    }
+
+    @Test
+    public void testStreamingGenerationEmitsOneEvent() throws Exception {
+        long[] passages = new long[1];
+        List<RecordedEvent> events = record(() ->
+            new EllersGenerator(new Coordinate(0, 0), new Coordinate(6, 8), 7, 9, 5L).generate((row, cells) -> {
+                for (int index = 0; index < cells.size(); index++) {
+                    passages[0] += cells.isWall(index) ? 0 : 1;
+                }
+            }));
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals("EllersGenerator", events.getFirst().getString("algorithm"));
+        Assertions.assertEquals(passages[0], events.getFirst().getLong("cellsCarved"));
+    }
+}
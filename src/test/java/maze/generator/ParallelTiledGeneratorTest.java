@@ -0,0 +1,76 @@
+package maze.generator;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.DijkstraSolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParallelTiledGeneratorTest {
+    private static final long SEED = 11L;
+
+    @Test
+    public void testEndIsReachableAcrossTiles() {
+        List<TileCarver.Factory> carvers = List.of(
+            PrimsGenerator::new, RecursiveBacktrackingGenerator::new, KruskalGenerator::new);
+        for (int carver = 0; carver < carvers.size(); carver++) {
+            for (long seed = 0; seed < 20; seed++) {
+                Coordinate start = new Coordinate(0, 0);
+                Coordinate end = new Coordinate(48, 62);
+                Maze maze = new ParallelTiledGenerator(start, end, 49, 63, carvers.get(carver), seed)
+                    .tileSize(7)
+                    .generate();
+
+                Assertions.assertFalse(new DijkstraSolver().solve(maze, start, end).isEmpty(), carver + " " + seed);
+            }
+        }
+    }
+
+    @Test
+    public void testEndpointsOnSeamsAreConnected() {
+        Coordinate start = new Coordinate(8, 8);
+        Coordinate end = new Coordinate(17, 26);
+        Maze maze = new ParallelTiledGenerator(start, end, 30, 30, PrimsGenerator::new, SEED).tileSize(8).generate();
+
+        Assertions.assertFalse(new DijkstraSolver().solve(maze, start, end).isEmpty());
+    }
+
+    @Test
+    public void testResultDoesNotDependOnParallelism() {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(99, 99);
+        Maze parallel;
+        Maze sequential;
+        try (ForkJoinPool wide = new ForkJoinPool(4); ForkJoinPool single = new ForkJoinPool(1)) {
+            parallel = new ParallelTiledGenerator(start, end, 100, 100, RecursiveBacktrackingGenerator::new, SEED)
+                .tileSize(16)
+                .pool(wide)
+                .generate();
+            sequential = new ParallelTiledGenerator(start, end, 100, 100, RecursiveBacktrackingGenerator::new, SEED)
+                .tileSize(16)
+                .pool(single)
+                .generate();
+        }
+
+        Assertions.assertArrayEquals(parallel.grid().cells(), sequential.grid().cells());
+    }
+
+    @Test
+    public void testGeneratorSelectionBuildsTiledGenerator() {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(40, 40);
+        MazeGenerationAlgorithm tiled = MazeGenerator.KRUSKAL.create(start, end, 41, 41, SEED, 8);
+        Maze expected = new ParallelTiledGenerator(start, end, 41, 41, KruskalGenerator::new, SEED)
+            .tileSize(8)
+            .generate();
+
+        Assertions.assertInstanceOf(ParallelTiledGenerator.class, tiled);
+        Assertions.assertArrayEquals(expected.grid().cells(), tiled.generate().grid().cells());
+        Assertions.assertInstanceOf(PrimsGenerator.class,
+            MazeGenerator.PRIMS.create(start, end, 41, 41, SEED, MazeGenerator.UNTILED));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MazeGenerator.ELLERS.create(start, end, 41, 41, SEED, 8));
+    }
+}
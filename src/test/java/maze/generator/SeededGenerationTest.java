@@ -0,0 +1,65 @@
+package maze.generator;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.random.RandomGeneratorFactory;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class SeededGenerationTest {
+    private static final Coordinate START = new Coordinate(0, 0);
+    private static final Coordinate END = new Coordinate(20, 30);
+    private static final int HEIGHT = 21;
+    private static final int WIDTH = 31;
+    private static final long SEED = 42L;
+
+    @Test
+    public void testPrimsIsReproducibleFromSeed() {
+        Maze first = new PrimsGenerator(START, END, HEIGHT, WIDTH, SEED).generate();
+        Maze second = new PrimsGenerator(START, END, HEIGHT, WIDTH, SEED).generate();
+
+        Assertions.assertArrayEquals(first.grid().cells(), second.grid().cells());
+    }
+
+    @Test
+    public void testBacktrackerIsReproducibleFromSeed() {
+        Maze first = new RecursiveBacktrackingGenerator(START, END, HEIGHT, WIDTH, SEED).generate();
+        Maze second = new RecursiveBacktrackingGenerator(START, END, HEIGHT, WIDTH, SEED).generate();
+
+        Assertions.assertArrayEquals(first.grid().cells(), second.grid().cells());
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeGenerator.class)
+    public void testGenerationStopsWhenThreadIsInterrupted(MazeGenerator generator) {
+        MazeGenerationAlgorithm algorithm = generator.create(START, new Coordinate(100, 100), 101, 101, SEED);
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(CancellationException.class, algorithm::generate);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testDifferentSeedsGiveDifferentMazes() {
+        Maze first = new PrimsGenerator(START, END, HEIGHT, WIDTH, SEED).generate();
+        Maze second = new PrimsGenerator(START, END, HEIGHT, WIDTH, SEED + 1).generate();
+
+        Assertions.assertFalse(Arrays.equals(first.grid().cells(), second.grid().cells()));
+    }
+
+    @Test
+    public void testCustomRandomSourceIsReproducible() {
+        RandomGeneratorFactory<?> factory = RandomGeneratorFactory.of("L64X128MixRandom");
+        BaseGenerator first = new PrimsGenerator(START, END, HEIGHT, WIDTH, SEED, factory::create);
+        BaseGenerator second = new PrimsGenerator(START, END, HEIGHT, WIDTH, SEED, factory::create);
+
+        Assertions.assertEquals(SEED, first.seed());
+        Assertions.assertArrayEquals(first.generate().grid().cells(), second.generate().grid().cells());
+    }
+}
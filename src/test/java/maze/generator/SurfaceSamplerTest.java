@@ -0,0 +1,76 @@
+package maze.generator;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SurfaceSamplerTest {
+    private static final int SAMPLES = 200_000;
+    private static final double TOLERANCE = 0.01;
+
+    @Test
+    public void testSampleFollowsDistribution() {
+        SurfaceSampler sampler = new SurfaceSampler(Map.of(
+            Cell.Type.DESERT, 15,
+            Cell.Type.ROAD, 15,
+            Cell.Type.PASSAGE, 70
+        ));
+        SplittableRandom random = new SplittableRandom(1);
+        Map<Cell.Type, Integer> counts = new EnumMap<>(Cell.Type.class);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.merge(sampler.sample(random), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(0.15, counts.get(Cell.Type.DESERT) / (double) SAMPLES, TOLERANCE);
+        Assertions.assertEquals(0.15, counts.get(Cell.Type.ROAD) / (double) SAMPLES, TOLERANCE);
+        Assertions.assertEquals(0.70, counts.get(Cell.Type.PASSAGE) / (double) SAMPLES, TOLERANCE);
+    }
+
+    @Test
+    public void testFillFollowsDistributionAndKeepsWalls() {
+        SurfaceSampler sampler = new SurfaceSampler(Map.of(Cell.Type.DESERT, 1, Cell.Type.ROAD, 3));
+        CellGrid grid = new CellGrid(400, 500);
+        grid.fill(Cell.Type.PASSAGE);
+        for (int index = 0; index < grid.size(); index += 10) {
+            grid.set(index, Cell.Type.WALL);
+        }
+
+        sampler.fill(grid, 0, grid.size(), new SplittableRandom(2));
+
+        int desert = 0;
+        for (int index = 0; index < grid.size(); index++) {
+            if (index % 10 == 0) {
+                Assertions.assertEquals(Cell.Type.WALL, grid.type(index));
+            } else {
+                Assertions.assertTrue(grid.type(index) == Cell.Type.DESERT || grid.type(index) == Cell.Type.ROAD);
+                desert += grid.type(index) == Cell.Type.DESERT ? 1 : 0;
+            }
+        }
+        Assertions.assertEquals(0.25, desert / (grid.size() * 0.9), TOLERANCE);
+    }
+
+    @Test
+    public void testSingleSurfaceIsAlwaysSelected() {
+        SurfaceSampler sampler = new SurfaceSampler(Map.of(Cell.Type.ROAD, 5, Cell.Type.DESERT, 0));
+        SplittableRandom random = new SplittableRandom(3);
+
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(Cell.Type.ROAD, sampler.sample(random));
+        }
+    }
+
+    @Test
+    public void testRejectsInvalidDistribution() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new SurfaceSampler(Map.of(Cell.Type.WALL, 1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new SurfaceSampler(Map.of(Cell.Type.ROAD, -1, Cell.Type.PASSAGE, 2)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new SurfaceSampler(Map.of(Cell.Type.ROAD, 0)));
+    }
+}
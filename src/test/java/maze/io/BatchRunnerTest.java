@@ -0,0 +1,68 @@
+package maze.io;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BatchRunnerTest {
+    private static BatchOptions parse(String... args) {
+        BatchOptions options = new BatchOptions();
+        JCommander.newBuilder().addObject(options).build().parse(args);
+        options.validate();
+        return options;
+    }
+
+    @Test
+    public void testRunsAreReproducibleFromSeed() throws IOException {
+        Path directory = Files.createTempDirectory("batch");
+        try {
+            BatchOptions options = parse("--generator", "KRUSKAL", "--height", "21", "--width", "31", "--end", "20,30",
+                "--seed", "7", "--count", "3", "--format", "BINARY", "--output", directory.toString());
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            new BatchRunner(options, new PrintStream(bytes, true, StandardCharsets.UTF_8)).run();
+
+            String[] lines = bytes.toString(StandardCharsets.UTF_8).split("\n");
+            Assertions.assertEquals(6, lines.length);
+            Assertions.assertTrue(lines[1].startsWith("1\tseed=8\t"));
+            Assertions.assertTrue(lines[3].startsWith("runs=3\tsolved=3\t"));
+            Maze expected = MazeGenerator.KRUSKAL
+                .create(new Coordinate(0, 0), new Coordinate(20, 30), 21, 31, 8L)
+                .generate();
+            Maze saved = MazeFile.load(directory.resolve("maze-1.maze"));
+            Assertions.assertArrayEquals(expected.grid().cells(), saved.grid().cells());
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidOptionsAreRejected() {
+        Assertions.assertThrows(ParameterException.class, () -> parse("--height", "2", "--width", "10"));
+        Assertions.assertThrows(ParameterException.class, () -> parse("--height", "5", "--width", "5", "--count", "0"));
+        Assertions.assertThrows(ParameterException.class,
+            () -> parse("--height", "5", "--width", "5", "--start", "5,0"));
+        Assertions.assertThrows(ParameterException.class,
+            () -> parse("--height", "5", "--width", "5", "--end", "1;2"));
+        Assertions.assertThrows(ParameterException.class,
+            () -> parse("--generator", "ELLERS", "--height", "5", "--width", "5", "--tile-size", "2"));
+        Assertions.assertThrows(ParameterException.class,
+            () -> parse("--height", "5", "--width", "5", "--tile-size", "-1"));
+    }
+}
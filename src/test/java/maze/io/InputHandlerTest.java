@@ -66,6 +66,18 @@ public class InputHandlerTest {
         verify(mockOut).println("Координата должна находится на границах лабиринта, попробуйте еще раз:");
     }
 
+    @Test
+    public void testLargeMazeOffersTiledGeneration() throws Exception {
+        String simulatedInput = "300\n300\n0 0\n299 299\n1\nx\n64\n1\n";
+        initializeInputHandler(simulatedInput);
+
+        inputHandler.getMazeParametersFromUser();
+
+        verify(mockOut).println("Некорректный размер плитки, введите целое число или нажмите 'Enter':");
+        Assertions.assertEquals(64, inputHandler.tileSize());
+        Assertions.assertEquals(MazeSolverAlgorithm.ASTAR, inputHandler.solverType());
+    }
+
     @Test
     public void testInvalidGeneratorOrSolver() throws Exception {
         String simulatedInput = "3\n3\n0 0\n2 2\n0\n1\n0\n1\n";
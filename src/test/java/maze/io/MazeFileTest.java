@@ -0,0 +1,120 @@
+package maze.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import maze.generator.KruskalGenerator;
+import maze.generator.MazeGenerator;
+import maze.generator.PrimsGenerator;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.AStarSolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MazeFileTest {
+    @Test
+    public void testRoundTripWithMetadata() throws IOException {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(36, 52);
+        Maze maze = new PrimsGenerator(start, end, 37, 53, 42L).generate();
+        Path file = Files.createTempFile("maze", ".bin");
+        try {
+            MazeFile.save(file, maze, 42L, MazeGenerator.PRIMS);
+
+            Maze loaded = MazeFile.load(file);
+            MazeFile.Header header = MazeFile.readHeader(file);
+
+            Assertions.assertEquals(MazeFile.HEADER_SIZE + (37 * 53 + 3) / 4, Files.size(file));
+            Assertions.assertArrayEquals(maze.grid().cells(), loaded.grid().cells());
+            Assertions.assertEquals(start, loaded.start());
+            Assertions.assertEquals(end, loaded.end());
+            Assertions.assertEquals(42L, header.seed().getAsLong());
+            Assertions.assertEquals(MazeGenerator.PRIMS, header.generator().orElseThrow());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRoundTripWithoutMetadata() throws IOException {
+        Maze maze = new PrimsGenerator(new Coordinate(1, 1), new Coordinate(3, 2), 4, 4, 1L).generate();
+        Path file = Files.createTempFile("maze", ".bin");
+        try {
+            MazeFile.save(file, maze);
+
+            Assertions.assertArrayEquals(maze.grid().cells(), MazeFile.load(file).grid().cells());
+            Assertions.assertTrue(MazeFile.readHeader(file).seed().isEmpty());
+            Assertions.assertTrue(MazeFile.readHeader(file).generator().isEmpty());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testMappedGridSolvesWithoutLoading() throws IOException {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(40, 30);
+        Maze maze = new PrimsGenerator(start, end, 41, 31, 5L).generate();
+        Path file = Files.createTempFile("maze", ".bin");
+        try {
+            MazeFile.save(file, maze);
+
+            MazeFile.Mapped mapped = MazeFile.map(file);
+            MappedGrid grid = mapped.grid();
+            CellGrid original = maze.grid();
+            Assertions.assertEquals(original.height(), grid.height());
+            Assertions.assertEquals(original.width(), grid.width());
+            for (int index = 0; index < original.size(); index++) {
+                Assertions.assertEquals(original.type(index), grid.type(index));
+                Assertions.assertEquals(original.isWall(index), grid.isWall(index));
+            }
+
+            List<Coordinate> expected = new AStarSolver().solve(MazeFile.load(file), start, end);
+            Assertions.assertEquals(expected, new AStarSolver().solve(grid, mapped.header().start(), end));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testStoresStableGeneratorId() throws IOException {
+        Maze maze = new KruskalGenerator(new Coordinate(0, 0), new Coordinate(4, 4), 5, 5, 3L).generate();
+        Path file = Files.createTempFile("maze", ".bin");
+        try {
+            MazeFile.save(file, maze, 3L, MazeGenerator.KRUSKAL);
+
+            Assertions.assertEquals(MazeGenerator.KRUSKAL.id(), Files.readAllBytes(file)[7]);
+            Assertions.assertEquals(MazeGenerator.KRUSKAL, MazeFile.readHeader(file).generator().orElseThrow());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRejectsEndpointOutsideGrid() throws IOException {
+        Maze maze = new PrimsGenerator(new Coordinate(0, 0), new Coordinate(4, 4), 5, 5, 2L).generate();
+        Path file = Files.createTempFile("maze", ".bin");
+        try {
+            MazeFile.save(file, new Maze(maze.grid(), maze.start(), new Coordinate(5, 0)));
+
+            Assertions.assertThrows(IOException.class, () -> MazeFile.map(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRejectsForeignFile() throws IOException {
+        Path file = Files.createTempFile("maze", ".bin");
+        try {
+            Files.write(file, new byte[MazeFile.HEADER_SIZE]);
+
+            Assertions.assertThrows(IOException.class, () -> MazeFile.load(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
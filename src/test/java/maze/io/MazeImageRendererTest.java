@@ -0,0 +1,119 @@
+package maze.io;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import javax.imageio.ImageIO;
+import maze.generator.EllersGenerator;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MazeImageRendererTest {
+    private static Maze sampleMaze() {
+        CellGrid grid = new CellGrid(3, 4);
+        grid.set(0, 0, Cell.Type.PASSAGE);
+        grid.set(0, 1, Cell.Type.PASSAGE);
+        grid.set(1, 1, Cell.Type.ROAD);
+        grid.set(2, 1, Cell.Type.DESERT);
+        grid.set(2, 2, Cell.Type.PASSAGE);
+        grid.set(2, 3, Cell.Type.PASSAGE);
+        return new Maze(grid, new Coordinate(0, 0), new Coordinate(2, 3));
+    }
+
+    private static byte[] render(MazeImageRenderer renderer, Maze maze, List<Coordinate> path) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(maze, path, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testPgmHeaderAndPixels() throws IOException {
+        byte[] image = render(new MazeImageRenderer(MazeImageRenderer.Format.PGM), sampleMaze(), List.of());
+        String header = "P5\n6 5\n255\n";
+
+        Assertions.assertEquals(header, new String(image, 0, header.length(), StandardCharsets.US_ASCII));
+        Assertions.assertEquals(header.length() + 6 * 5, image.length);
+        byte[] secondRow = Arrays.copyOfRange(image, header.length() + 6, header.length() + 12);
+        Assertions.assertEquals(-1, secondRow[0]);
+        Assertions.assertNotEquals(secondRow[1], secondRow[2]);
+        Assertions.assertEquals(0, secondRow[2]);
+        Assertions.assertEquals(-1, secondRow[3]);
+    }
+
+    @Test
+    public void testPngMatchesPpm() throws IOException {
+        Maze maze = sampleMaze();
+        List<Coordinate> path = List.of(new Coordinate(0, 1), new Coordinate(1, 1), new Coordinate(2, 1));
+        byte[] ppm = render(new MazeImageRenderer(MazeImageRenderer.Format.PPM, 3), maze, path);
+        BufferedImage png = ImageIO.read(new ByteArrayInputStream(
+            render(new MazeImageRenderer(MazeImageRenderer.Format.PNG, 3), maze, path)));
+
+        Assertions.assertEquals(18, png.getWidth());
+        Assertions.assertEquals(15, png.getHeight());
+        int offset = ppm.length - 18 * 15 * 3;
+        for (int y = 0; y < png.getHeight(); y++) {
+            for (int x = 0; x < png.getWidth(); x++) {
+                int index = offset + (y * png.getWidth() + x) * 3;
+                int expected = (ppm[index] & 0xFF) << 16 | (ppm[index + 1] & 0xFF) << 8 | ppm[index + 2] & 0xFF;
+                Assertions.assertEquals(expected, png.getRGB(x, y) & 0xFFFFFF);
+            }
+        }
+    }
+
+    @Test
+    public void testStreamedRowsMatchRenderedMaze() throws IOException {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(40, 60);
+        MazeImageRenderer renderer = new MazeImageRenderer(MazeImageRenderer.Format.PNG);
+        byte[] expected = render(renderer, new EllersGenerator(start, end, 41, 61, 5L).generate(), List.of());
+
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        try (MazeImageRenderer.RowWriter rows = renderer.open(41, 61, start, end, Channels.newChannel(streamed))) {
+            new EllersGenerator(start, end, 41, 61, 5L).generate(rows);
+        }
+
+        Assertions.assertArrayEquals(expected, streamed.toByteArray());
+    }
+
+    @Test
+    public void testRowWriterRejectsMissingRows() throws IOException {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(2, 3);
+        MazeImageRenderer renderer = new MazeImageRenderer(MazeImageRenderer.Format.PNG);
+        CellGrid row = new CellGrid(1, 4);
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        MazeImageRenderer.RowWriter rows = renderer.open(3, 4, start, end, Channels.newChannel(streamed));
+        rows.accept(0, row);
+        rows.accept(1, row);
+        int written = streamed.size();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> rows.accept(3, row));
+        Assertions.assertThrows(IllegalStateException.class, rows::close);
+        Assertions.assertEquals(written, streamed.size());
+    }
+
+    @Test
+    public void testRowWriterRejectsRowsOfOtherWidth() throws IOException {
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(2, 3);
+        MazeImageRenderer renderer = new MazeImageRenderer(MazeImageRenderer.Format.PNG);
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        MazeImageRenderer.RowWriter rows = renderer.open(3, 4, start, end, Channels.newChannel(streamed));
+        rows.accept(0, new CellGrid(1, 4));
+        int written = streamed.size();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> rows.accept(1, new CellGrid(1, 3)));
+        Assertions.assertThrows(IllegalStateException.class, () -> rows.accept(1, new CellGrid(1, 5)));
+        Assertions.assertEquals(written, streamed.size());
+        rows.accept(1, new CellGrid(1, 4));
+    }
+}
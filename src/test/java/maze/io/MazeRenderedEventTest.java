@@ -0,0 +1,37 @@
+package maze.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import maze.JfrRecorder;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MazeRenderedEventTest {
+    @Test
+    public void testRenderEmitsEventsWithWrittenAmount() throws Exception {
+        Maze maze = MazeGenerator.PRIMS.create(new Coordinate(0, 0), new Coordinate(14, 18), 15, 19, 4L).generate();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream bandBytes = new ByteArrayOutputStream();
+        StringWriter chars = new StringWriter();
+        List<RecordedEvent> events = JfrRecorder.record("maze.MazeRendered", () -> {
+            new MazeTextRenderer().render(maze, List.of(), bytes);
+            new MazeTextRenderer().parallelism(2).render(maze, List.of(), bandBytes);
+            new MazeTextRenderer().render(maze, List.of(), chars);
+        });
+
+        Assertions.assertEquals(3, events.size());
+        events.sort((first, second) -> first.getStartTime().compareTo(second.getStartTime()));
+        Assertions.assertEquals(15, events.getFirst().getInt("height"));
+        Assertions.assertEquals(19, events.getFirst().getInt("width"));
+        Assertions.assertEquals("text", events.getFirst().getString("format"));
+        Assertions.assertEquals(bytes.size(), events.get(0).getLong("bytesWritten"));
+        Assertions.assertEquals(bandBytes.size(), events.get(1).getLong("bytesWritten"));
+        Assertions.assertEquals(2, events.get(1).getInt("parallelism"));
+        Assertions.assertEquals(chars.toString().length(), events.get(2).getLong("charsWritten"));
+    }
+}
@@ -1,9 +1,20 @@
 package maze.io;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import maze.model.Cell;
+import maze.model.CellGrid;
 import maze.model.Coordinate;
 import maze.model.Maze;
 import org.junit.jupiter.api.Assertions;
@@ -77,4 +88,57 @@ public class MazeTextRendererTest {
 
         Assertions.assertEquals(expectedOutput, renderer.render(maze, expectedPath));
     }
+
+    @Test
+    public void testStreamingMatchesStringRendering() throws IOException {
+        CellGrid grid = new CellGrid(300, 400);
+        for (int index = 0; index < grid.size(); index++) {
+            grid.set(index, Cell.Type.values()[index * 7 % Cell.Type.values().length]);
+        }
+        Maze maze = new Maze(grid, new Coordinate(0, 0), new Coordinate(299, 399));
+        List<Coordinate> path = List.of(new Coordinate(0, 1), new Coordinate(1, 1), new Coordinate(150, 200));
+        MazeTextRenderer renderer = new MazeTextRenderer();
+        String expected = renderer.render(maze, path);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        renderer.render(maze, path, bytes);
+        StringWriter chars = new StringWriter();
+        renderer.render(maze, path, chars);
+
+        Assertions.assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(expected, chars.toString());
+    }
+
+    @Test
+    public void testParallelBandsMatchSequentialRendering() throws IOException {
+        CellGrid grid = new CellGrid(301, 257);
+        for (int index = 0; index < grid.size(); index++) {
+            grid.set(index, Cell.Type.values()[index * 5 % Cell.Type.values().length]);
+        }
+        Maze maze = new Maze(grid, new Coordinate(0, 3), new Coordinate(300, 256));
+        List<Coordinate> path = List.of(new Coordinate(0, 4), new Coordinate(100, 100), new Coordinate(299, 256));
+        String expected = new MazeTextRenderer().render(maze, path);
+
+        for (int parallelism = 2; parallelism <= 5; parallelism++) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                new MazeTextRenderer()
+                    .parallelism(parallelism)
+                    .pool(pool)
+                    .render(maze, path, Channels.newChannel(bytes));
+            }
+
+            Assertions.assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+        }
+
+        Path file = Files.createTempFile("maze", ".txt");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            new MazeTextRenderer().parallelism(3).render(maze, path, channel);
+        }
+        try {
+            Assertions.assertEquals(expected, Files.readString(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package maze.io;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import maze.generator.PrimsGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MazeViewportTest {
+    private static final String ANSI_SEQUENCE = "\u001B\\[[0-9;]*[HJ]";
+    private static final Pattern ANSI_COMMAND = Pattern.compile("\u001B\\[(?:(\\d+);(\\d+))?(\\d*)([HJ])");
+
+    private final Maze maze = new PrimsGenerator(new Coordinate(0, 0), new Coordinate(19, 29), 20, 30, 3L).generate();
+
+    private static String lastFrame(StringWriter out, int from) {
+        return out.toString().substring(from);
+    }
+
+    private String expectedWindow(int top, int left, int rows, int cols) {
+        String[] lines = new MazeTextRenderer().render(maze).split("\n");
+        StringBuilder expected = new StringBuilder();
+        for (int row = top; row < top + rows; row++) {
+            String line = lines[row];
+            int skipped = 0;
+            int position = 0;
+            while (skipped < left) {
+                position += symbolLength(line, position);
+                skipped++;
+            }
+            for (int col = 0; col < cols; col++) {
+                int length = symbolLength(line, position);
+                expected.append(line, position, position + length);
+                position += length;
+            }
+        }
+        return expected.toString();
+    }
+
+    private static int symbolLength(String line, int position) {
+        for (String symbol : MazeTextRenderer.SYMBOLS) {
+            if (line.startsWith(symbol, position)) {
+                return symbol.length();
+            }
+        }
+        throw new IllegalStateException("Неизвестный символ в позиции " + position);
+    }
+
+    /**
+     * Экран терминала, на который воспроизводится вывод окна: перемещения курсора, очистка и символы клеток
+     * шириной в два столбца.
+     */
+    private static final class VirtualScreen {
+        private final String[][] cells;
+        private int row;
+        private int col;
+
+        VirtualScreen(int rows, int cols) {
+            cells = new String[rows][cols];
+            clearFrom(0);
+        }
+
+        void replay(String output) {
+            Matcher command = ANSI_COMMAND.matcher(output);
+            int position = 0;
+            while (position < output.length()) {
+                if (command.find(position) && command.start() == position) {
+                    apply(command);
+                    position = command.end();
+                } else {
+                    int length = symbolLength(output, position);
+                    cells[row][col / 2] = output.substring(position, position + length);
+                    col += 2;
+                    position += length;
+                }
+            }
+        }
+
+        private void apply(Matcher command) {
+            if ("J".equals(command.group(4))) {
+                clearFrom("2".equals(command.group(3)) ? 0 : row);
+            } else if (command.group(1) == null) {
+                row = 0;
+                col = 0;
+            } else {
+                row = Integer.parseInt(command.group(1)) - 1;
+                col = Integer.parseInt(command.group(2)) - 1;
+            }
+        }
+
+        private void clearFrom(int fromRow) {
+            for (int clearedRow = fromRow; clearedRow < cells.length; clearedRow++) {
+                Arrays.fill(cells[clearedRow], "");
+            }
+        }
+
+        String contents() {
+            StringBuilder contents = new StringBuilder();
+            for (String[] line : cells) {
+                for (String cell : line) {
+                    contents.append(cell);
+                }
+            }
+            return contents.toString();
+        }
+    }
+
+    @Test
+    public void testShowDrawsClampedWindow() throws IOException {
+        StringWriter out = new StringWriter();
+        MazeViewport viewport = new MazeViewport(out, 6, 8);
+
+        viewport.show(maze, List.of(), maze.start());
+
+        Assertions.assertEquals(0, viewport.top());
+        Assertions.assertEquals(0, viewport.left());
+        Assertions.assertEquals(expectedWindow(0, 0, 6, 8), out.toString().replaceAll(ANSI_SEQUENCE, ""));
+    }
+
+    @Test
+    public void testScrollRedrawsOnlyChangedCells() throws IOException {
+        StringWriter out = new StringWriter();
+        VirtualScreen screen = new VirtualScreen(7, 8);
+        MazeViewport viewport = new MazeViewport(out, 6, 8);
+        viewport.show(maze, List.of(), maze.end());
+        screen.replay(out.toString());
+        Assertions.assertEquals(16, viewport.top());
+        Assertions.assertEquals(24, viewport.left());
+        Assertions.assertEquals(expectedWindow(16, 24, 6, 8), screen.contents());
+
+        int mark = out.toString().length();
+        viewport.scroll(0, 0);
+        Assertions.assertEquals("", lastFrame(out, mark).replaceAll(ANSI_SEQUENCE, ""));
+
+        mark = out.toString().length();
+        viewport.scroll(-3, -5);
+        String frame = lastFrame(out, mark);
+        screen.replay(frame);
+        Assertions.assertEquals(13, viewport.top());
+        Assertions.assertEquals(19, viewport.left());
+        Assertions.assertEquals(expectedWindow(13, 19, 6, 8), screen.contents());
+        Assertions.assertTrue(frame.replaceAll(ANSI_SEQUENCE, "").length() < expectedWindow(13, 19, 6, 8).length());
+
+        mark = out.toString().length();
+        viewport.center(maze.start());
+        screen.replay(lastFrame(out, mark));
+        Assertions.assertEquals(expectedWindow(0, 0, 6, 8), screen.contents());
+
+        mark = out.toString().length();
+        viewport.scroll(13, 19);
+        screen.replay(lastFrame(out, mark));
+        Assertions.assertEquals(expectedWindow(13, 19, 6, 8), screen.contents());
+    }
+
+    @Test
+    public void testFits() {
+        Assertions.assertTrue(new MazeViewport(new StringWriter(), 22, 32).fits(maze));
+        Assertions.assertFalse(new MazeViewport(new StringWriter(), 21, 32).fits(maze));
+    }
+}
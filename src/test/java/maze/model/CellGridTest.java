@@ -0,0 +1,50 @@
+package maze.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CellGridTest {
+    @Test
+    public void testNewGridIsFilledWithWalls() {
+        CellGrid grid = new CellGrid(3, 4);
+
+        Assertions.assertEquals(12, grid.size());
+        for (int index = 0; index < grid.size(); index++) {
+            Assertions.assertEquals(Cell.Type.WALL, grid.type(index));
+        }
+    }
+
+    @Test
+    public void testSetAndGetUseRowMajorIndex() {
+        CellGrid grid = new CellGrid(3, 4);
+
+        grid.set(2, 1, Cell.Type.DESERT);
+        grid.set(grid.index(0, 3), Cell.Type.ROAD);
+
+        Assertions.assertEquals(9, grid.index(2, 1));
+        Assertions.assertEquals(Cell.Type.DESERT, grid.type(9));
+        Assertions.assertEquals(Cell.Type.ROAD, grid.type(0, 3));
+        Assertions.assertEquals(new Cell(2, 1, Cell.Type.DESERT), grid.cell(2, 1));
+        Assertions.assertFalse(grid.isWall(9));
+        Assertions.assertTrue(grid.isWall(0));
+    }
+
+    @Test
+    public void testGridFromCellArray() {
+        Cell[][] cells = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.WALL)},
+            {new Cell(1, 0, Cell.Type.ROAD), new Cell(1, 1, Cell.Type.DESERT)}
+        };
+
+        CellGrid grid = CellGrid.of(cells);
+
+        for (int row = 0; row < 2; row++) {
+            for (int col = 0; col < 2; col++) {
+                Assertions.assertEquals(cells[row][col], grid.cell(row, col));
+            }
+        }
+        Assertions.assertTrue(grid.contains(1, 1));
+        Assertions.assertFalse(grid.contains(2, 0));
+        Assertions.assertFalse(grid.contains(0, -1));
+    }
+}
@@ -0,0 +1,52 @@
+package maze.service;
+
+import java.time.Duration;
+import java.util.List;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.MazeSolverAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MazeCacheTest {
+    private static final Coordinate START = new Coordinate(0, 0);
+    private static final Coordinate END = new Coordinate(40, 40);
+
+    private static GenerateRequest request(long seed) {
+        return new GenerateRequest(MazeGenerator.PRIMS, 41, 41, START, END, seed);
+    }
+
+    @Test
+    public void testRepeatedRequestsAreServedFromCache() {
+        MazeCache cache = new MazeCache(1 << 20, 1 << 20);
+        try (MazeService service = new MazeService(4, Duration.ofMinutes(1)).cache(cache)) {
+            Maze first = service.generate(request(1)).join();
+            Maze second = service.generate(request(1)).join();
+            List<Coordinate> path = service.solve(request(1), MazeSolverAlgorithm.ASTAR).join();
+            List<Coordinate> repeated = service.solve(request(1), MazeSolverAlgorithm.ASTAR).join();
+
+            Assertions.assertSame(first, second);
+            Assertions.assertSame(path, repeated);
+            Assertions.assertEquals(2, cache.mazeStats().hits());
+            Assertions.assertEquals(1, cache.mazeStats().misses());
+            Assertions.assertEquals(1, cache.pathStats().hits());
+            Assertions.assertEquals(1, cache.pathStats().misses());
+            Assertions.assertTrue(cache.mazeStats().bytes() >= 41 * 41);
+        }
+    }
+
+    @Test
+    public void testCacheIsBoundedByWeight() {
+        MazeCache cache = new MazeCache(4 * 41 * 41, 1 << 20);
+        try (MazeService service = new MazeService(4, Duration.ofMinutes(1)).cache(cache)) {
+            for (long seed = 0; seed < 20; seed++) {
+                service.generate(request(seed)).join();
+            }
+            cache.cleanUp();
+
+            Assertions.assertTrue(cache.mazeStats().bytes() <= 4 * 41 * 41);
+            Assertions.assertTrue(cache.mazeStats().evictions() > 0);
+        }
+    }
+}
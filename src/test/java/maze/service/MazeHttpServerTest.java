@@ -0,0 +1,137 @@
+package maze.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.DijkstraSolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MazeHttpServerTest {
+    private static final String MAZE_JSON = "{\"generator\":\"KRUSKAL\",\"height\":21,\"width\":31,"
+        + "\"start\":{\"row\":0,\"col\":0},\"end\":{\"row\":20,\"col\":30},\"seed\":9}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private MazeService service;
+    private MazeHttpServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        service = new MazeService(16, Duration.ofMinutes(1)).maxCells(10_000);
+        server = new MazeHttpServer(new InetSocketAddress("127.0.0.1", 0), service);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+        service.close();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.address().getPort() + path);
+    }
+
+    private HttpResponse<byte[]> post(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static Maze expectedMaze() {
+        return MazeGenerator.KRUSKAL.create(new Coordinate(0, 0), new Coordinate(20, 30), 21, 31, 9L).generate();
+    }
+
+    @Test
+    public void testGenerateReturnsMazeRows() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = post("/generate", MAZE_JSON);
+
+        Assertions.assertEquals(200, response.statusCode());
+        JsonNode json = mapper.readTree(response.body());
+        Maze expected = expectedMaze();
+        Assertions.assertEquals(21, json.get("rows").size());
+        for (int row = 0; row < 21; row++) {
+            String cells = json.get("rows").get(row).asText();
+            for (int col = 0; col < 31; col++) {
+                Assertions.assertEquals(expected.grid().type(row, col).ordinal(), cells.charAt(col) - '0');
+            }
+        }
+    }
+
+    @Test
+    public void testSolveReturnsShortestPath() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = post("/solve", "{\"maze\":" + MAZE_JSON + ",\"solver\":\"DIAL\"}");
+
+        Assertions.assertEquals(200, response.statusCode());
+        JsonNode json = mapper.readTree(response.body());
+        List<Coordinate> expected = new DijkstraSolver().solve(expectedMaze(), new Coordinate(0, 0),
+            new Coordinate(20, 30));
+        Assertions.assertEquals(expected.size(), json.get("length").asInt());
+        Assertions.assertEquals(expected.getLast().col(), json.get("path").get(expected.size() - 1).get("col").asInt());
+    }
+
+    @Test
+    public void testRenderStreamsImage() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = post("/render?format=png", "{\"maze\":" + MAZE_JSON + "}");
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals("image/png", response.headers().firstValue("Content-Type").orElseThrow());
+        Assertions.assertEquals('P', response.body()[1]);
+        Assertions.assertEquals('N', response.body()[2]);
+        Assertions.assertEquals('G', response.body()[3]);
+    }
+
+    @Test
+    public void testErrorsAreReported() throws IOException, InterruptedException {
+        Assertions.assertEquals(400, post("/generate", "{\"height\":5}").statusCode());
+        Assertions.assertEquals(400, post("/solve", "{\"maze\":" + MAZE_JSON + "}").statusCode());
+        Assertions.assertEquals(400, post("/render?format=gif", "{\"maze\":" + MAZE_JSON + "}").statusCode());
+
+        HttpRequest get = HttpRequest.newBuilder(uri("/generate")).GET().build();
+        Assertions.assertEquals(405, client.send(get, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    @Test
+    public void testGeneratesByTiles() throws IOException, InterruptedException {
+        String tiled = MAZE_JSON.replace("\"seed\":9", "\"seed\":9,\"tileSize\":8");
+        HttpResponse<byte[]> response = post("/generate", tiled);
+
+        Assertions.assertEquals(200, response.statusCode());
+        JsonNode json = mapper.readTree(response.body());
+        Maze expected = MazeGenerator.KRUSKAL.create(new Coordinate(0, 0), new Coordinate(20, 30), 21, 31, 9L, 8)
+            .generate();
+        for (int row = 0; row < 21; row++) {
+            String cells = json.get("rows").get(row).asText();
+            for (int col = 0; col < 31; col++) {
+                Assertions.assertEquals(expected.grid().type(row, col).ordinal(), cells.charAt(col) - '0');
+            }
+        }
+        Assertions.assertEquals(400, post("/generate", tiled.replace("KRUSKAL", "ELLERS")).statusCode());
+    }
+
+    @Test
+    public void testRejectsInvalidSizesAndPoints() throws IOException, InterruptedException {
+        String outside = MAZE_JSON.replace("\"row\":20,\"col\":30", "\"row\":21,\"col\":30");
+        String tiny = MAZE_JSON.replace("\"height\":21", "\"height\":2");
+        String huge = MAZE_JSON.replace("\"height\":21,\"width\":31", "\"height\":46000,\"width\":46000");
+
+        Assertions.assertEquals(400, post("/generate", outside).statusCode());
+        Assertions.assertEquals(400, post("/generate", tiny).statusCode());
+        Assertions.assertEquals(400, post("/render?format=png", "{\"maze\":" + huge + "}").statusCode());
+        Assertions.assertEquals(16, service.availableSlots());
+    }
+}
@@ -0,0 +1,118 @@
+package maze.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import maze.solver.DijkstraSolver;
+import maze.solver.MazeSolverAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MazeServiceTest {
+    private static final Coordinate START = new Coordinate(0, 0);
+    private static final Coordinate END = new Coordinate(60, 80);
+
+    @Test
+    public void testConcurrentJobsMatchSequentialResults() {
+        try (MazeService service = new MazeService(64, Duration.ofMinutes(1))) {
+            List<CompletableFuture<Maze>> generated = new ArrayList<>();
+            for (long seed = 0; seed < 16; seed++) {
+                generated.add(service.generate(new GenerateRequest(MazeGenerator.PRIMS, 61, 81, START, END, seed)));
+            }
+            List<CompletableFuture<List<Coordinate>>> paths = new ArrayList<>();
+            List<Maze> mazes = new ArrayList<>();
+            for (CompletableFuture<Maze> future : generated) {
+                Maze maze = future.join();
+                mazes.add(maze);
+                paths.add(service.solve(maze, START, END, MazeSolverAlgorithm.DIJKSTRA));
+            }
+
+            for (int i = 0; i < mazes.size(); i++) {
+                Maze expected = MazeGenerator.PRIMS.create(START, END, 61, 81, i).generate();
+                Assertions.assertArrayEquals(expected.grid().cells(), mazes.get(i).grid().cells());
+                Assertions.assertEquals(new DijkstraSolver().solve(expected, START, END), paths.get(i).join());
+            }
+        }
+    }
+
+    @Test
+    public void testSolveFromRequestNeedsOneSlot() {
+        try (MazeService service = new MazeService(1, Duration.ofMinutes(1))) {
+            for (long seed = 0; seed < 20; seed++) {
+                GenerateRequest request = new GenerateRequest(MazeGenerator.PRIMS, 61, 81, START, END, seed);
+                Maze expected = MazeGenerator.PRIMS.create(START, END, 61, 81, seed).generate();
+
+                Assertions.assertEquals(new DijkstraSolver().solve(expected, START, END),
+                    service.solve(request, MazeSolverAlgorithm.DIJKSTRA).join());
+            }
+            Assertions.assertEquals(1, service.availableSlots());
+        }
+    }
+
+    @Test
+    public void testAdmissionIsBounded() {
+        CountDownLatch release = new CountDownLatch(1);
+        try (MazeService service = new MazeService(1, Duration.ofMinutes(1))) {
+            CompletableFuture<Integer> blocked = service.submit(() -> await(release));
+
+            ExecutionException rejected = Assertions.assertThrows(ExecutionException.class,
+                () -> service.submit(() -> 2).get());
+            Assertions.assertInstanceOf(RejectedExecutionException.class, rejected.getCause());
+
+            release.countDown();
+            Assertions.assertEquals(1, blocked.join().intValue());
+            Assertions.assertEquals(1, service.availableSlots());
+        }
+    }
+
+    @Test
+    public void testSlowJobTimesOut() {
+        CountDownLatch release = new CountDownLatch(1);
+        try (MazeService service = new MazeService(1, Duration.ofMillis(50))) {
+            CompletableFuture<Integer> slow = service.submit(() -> await(release));
+
+            ExecutionException timedOut = Assertions.assertThrows(ExecutionException.class, slow::get);
+            Assertions.assertInstanceOf(TimeoutException.class, timedOut.getCause());
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testTimeoutInterruptsJobAndFreesSlot() throws InterruptedException {
+        try (MazeService service = new MazeService(1, Duration.ofMillis(50))) {
+            CompletableFuture<Integer> endless = service.submit(MazeServiceTest::spinUntilInterrupted);
+
+            ExecutionException timedOut = Assertions.assertThrows(ExecutionException.class, endless::get);
+            Assertions.assertInstanceOf(TimeoutException.class, timedOut.getCause());
+            for (int attempt = 0; attempt < 100 && service.availableSlots() == 0; attempt++) {
+                Thread.sleep(50);
+            }
+            Assertions.assertEquals(1, service.availableSlots());
+        }
+    }
+
+    private static int spinUntilInterrupted() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Thread.onSpinWait();
+        }
+        throw new CancellationException();
+    }
+
+    private static int await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,114 @@
+package maze.solver;
+
+import java.util.Arrays;
+import java.util.List;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AltHeuristicTest {
+    private static Maze createMaze() {
+        Cell[][] testGrid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.PASSAGE), new Cell(0, 2, Cell.Type.PASSAGE),
+                new Cell(0, 3, Cell.Type.ROAD), new Cell(0, 4, Cell.Type.PASSAGE)},
+            {new Cell(1, 0, Cell.Type.PASSAGE), new Cell(1, 1, Cell.Type.WALL), new Cell(1, 2, Cell.Type.WALL),
+                new Cell(1, 3, Cell.Type.PASSAGE), new Cell(1, 4, Cell.Type.WALL)},
+            {new Cell(2, 0, Cell.Type.PASSAGE), new Cell(2, 1, Cell.Type.WALL), new Cell(2, 2, Cell.Type.PASSAGE),
+                new Cell(2, 3, Cell.Type.DESERT), new Cell(2, 4, Cell.Type.PASSAGE)},
+            {new Cell(3, 0, Cell.Type.ROAD), new Cell(3, 1, Cell.Type.ROAD), new Cell(3, 2, Cell.Type.WALL),
+                new Cell(3, 3, Cell.Type.PASSAGE), new Cell(3, 4, Cell.Type.ROAD)},
+            {new Cell(4, 0, Cell.Type.DESERT), new Cell(4, 1, Cell.Type.PASSAGE), new Cell(4, 2, Cell.Type.PASSAGE),
+                new Cell(4, 3, Cell.Type.PASSAGE), new Cell(4, 4, Cell.Type.PASSAGE)}
+        };
+        return new Maze(5, 5, testGrid, new Coordinate(0, 0), new Coordinate(4, 4));
+    }
+
+    private static int pathCost(Maze maze, List<Coordinate> path) {
+        int cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            cost += BaseSolver.costOf(maze.grid().type(path.get(i).row(), path.get(i).col()));
+        }
+        return cost;
+    }
+
+    @Test
+    public void testEstimatesNeverExceedShortestPathCost() {
+        Maze maze = createMaze();
+        CellGrid grid = maze.grid();
+        AltHeuristic heuristic = new AltHeuristic(maze, 2);
+        DijkstraSolver solver = new DijkstraSolver();
+
+        for (int from = 0; from < grid.size(); from++) {
+            for (int to = 0; to < grid.size(); to++) {
+                if (grid.isWall(from) || grid.isWall(to)) {
+                    continue;
+                }
+                Coordinate start = new Coordinate(from / grid.width(), from % grid.width());
+                Coordinate end = new Coordinate(to / grid.width(), to % grid.width());
+                int actual = pathCost(maze, solver.solve(maze, start, end));
+                Assertions.assertTrue(heuristic.estimate(grid, from, to) <= actual,
+                    "Оценка не должна превышать стоимость пути " + start + " -> " + end);
+            }
+        }
+    }
+
+    @Test
+    public void testAStarWithLandmarksFindsOptimalPath() {
+        Maze maze = createMaze();
+        List<Coordinate> expectedPath = Arrays.asList(new Coordinate(0, 0), new Coordinate(1, 0), new Coordinate(2, 0),
+            new Coordinate(3, 0), new Coordinate(3, 1), new Coordinate(4, 1), new Coordinate(4, 2),
+            new Coordinate(4, 3), new Coordinate(4, 4));
+
+        AStarSolver solver = new AStarSolver(new AltHeuristic(maze));
+
+        Assertions.assertEquals(expectedPath, solver.solve(maze, maze.start(), maze.end()));
+    }
+
+    @Test
+    public void testSaturatedDistancesKeepEstimatesAdmissible() {
+        int width = 2 * AltHeuristic.SATURATED / BaseSolver.PASSAGE_COST;
+        CellGrid grid = new CellGrid(3, width);
+        grid.fill(Cell.Type.WALL);
+        for (int col = 0; col < width; col++) {
+            grid.set(1, col, Cell.Type.PASSAGE);
+        }
+        Maze maze = new Maze(grid, new Coordinate(1, 0), new Coordinate(1, width - 1));
+        AltHeuristic heuristic = new AltHeuristic(maze, 2);
+
+        int step = width / 16;
+        for (int from = 0; from < width; from += step) {
+            for (int to = 0; to < width; to += step) {
+                int actual = BaseSolver.PASSAGE_COST * Math.abs(to - from);
+                Assertions.assertTrue(heuristic.estimate(grid, grid.index(1, from), grid.index(1, to)) <= actual,
+                    "Оценка не должна превышать стоимость пути " + from + " -> " + to);
+            }
+        }
+        Assertions.assertEquals(width, new AStarSolver(heuristic).solve(maze, maze.start(), maze.end()).size());
+    }
+
+    @Test
+    public void testPerGridHeuristicFollowsTheSearchedMaze() {
+        Maze maze = createMaze();
+        Maze other = createMaze();
+        other.grid().set(3, 1, Cell.Type.WALL);
+        AStarSolver solver = new AStarSolver(AltHeuristic.perGrid());
+        DijkstraSolver reference = new DijkstraSolver();
+
+        for (Maze searched : List.of(maze, other, maze)) {
+            List<Coordinate> path = solver.solve(searched, searched.start(), searched.end());
+            List<Coordinate> expected = reference.solve(searched, searched.start(), searched.end());
+            Assertions.assertEquals(pathCost(searched, expected), pathCost(searched, path));
+        }
+    }
+
+    @Test
+    public void testHeuristicIsBoundToItsMaze() {
+        AltHeuristic heuristic = new AltHeuristic(createMaze(), 1);
+        Maze other = createMaze();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> heuristic.estimate(other.grid(), 0, 1));
+    }
+}
@@ -0,0 +1,43 @@
+package maze.solver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BucketQueueTest {
+    @Test
+    public void testPollReturnsMonotoneKeysAcrossBucketWrap() {
+        BucketQueue queue = new BucketQueue(7);
+        queue.ensureCapacity(5);
+
+        queue.insertOrDecrease(0, 20);
+        Assertions.assertEquals(0, queue.poll());
+
+        queue.insertOrDecrease(1, 27);
+        queue.insertOrDecrease(2, 23);
+        queue.insertOrDecrease(3, 25);
+        queue.insertOrDecrease(1, 21);
+
+        Assertions.assertEquals(1, queue.poll());
+        Assertions.assertEquals(2, queue.poll());
+        queue.insertOrDecrease(4, 30);
+        Assertions.assertEquals(3, queue.poll());
+        Assertions.assertEquals(4, queue.poll());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testIncreaseIsIgnoredAndQueueIsReusable() {
+        BucketQueue queue = new BucketQueue(3);
+        queue.ensureCapacity(3);
+        queue.insertOrDecrease(0, 5);
+        queue.insertOrDecrease(1, 6);
+        queue.insertOrDecrease(0, 8);
+
+        Assertions.assertEquals(0, queue.poll());
+
+        queue.ensureCapacity(3);
+        Assertions.assertTrue(queue.isEmpty());
+        queue.insertOrDecrease(1, 100);
+        Assertions.assertEquals(1, queue.poll());
+    }
+}
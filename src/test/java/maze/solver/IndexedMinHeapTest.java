@@ -0,0 +1,57 @@
+package maze.solver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IndexedMinHeapTest {
+    @Test
+    public void testPollReturnsIndicesInKeyOrder() {
+        IndexedMinHeap heap = new IndexedMinHeap();
+        heap.ensureCapacity(6);
+
+        heap.insertOrDecrease(0, 40);
+        heap.insertOrDecrease(1, 10);
+        heap.insertOrDecrease(2, 30);
+        heap.insertOrDecrease(3, 20);
+
+        Assertions.assertEquals(1, heap.poll());
+        Assertions.assertEquals(3, heap.poll());
+        Assertions.assertEquals(2, heap.poll());
+        Assertions.assertEquals(0, heap.poll());
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testDecreaseKeyMovesIndexForward() {
+        IndexedMinHeap heap = new IndexedMinHeap();
+        heap.ensureCapacity(4);
+
+        heap.insertOrDecrease(0, 10);
+        heap.insertOrDecrease(1, 20);
+        heap.insertOrDecrease(2, 30);
+        heap.insertOrDecrease(2, 5);
+        heap.insertOrDecrease(0, 50);
+
+        Assertions.assertEquals(3, heap.size());
+        Assertions.assertEquals(5, heap.key(2));
+        Assertions.assertEquals(10, heap.key(0));
+        Assertions.assertEquals(2, heap.poll());
+        Assertions.assertFalse(heap.contains(2));
+        Assertions.assertEquals(0, heap.poll());
+    }
+
+    @Test
+    public void testClearAllowsReuse() {
+        IndexedMinHeap heap = new IndexedMinHeap();
+        heap.ensureCapacity(3);
+        heap.insertOrDecrease(0, 1);
+        heap.insertOrDecrease(2, 2);
+
+        heap.ensureCapacity(3);
+
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertFalse(heap.contains(0));
+        heap.insertOrDecrease(2, 7);
+        Assertions.assertEquals(2, heap.poll());
+    }
+}
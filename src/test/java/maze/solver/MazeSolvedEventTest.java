@@ -0,0 +1,32 @@
+package maze.solver;
+
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import maze.JfrRecorder;
+import maze.generator.MazeGenerator;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MazeSolvedEventTest {
+    @Test
+    public void testSolveEmitsEventWithSearchStats() throws Exception {
+        Maze maze = MazeGenerator.KRUSKAL.create(new Coordinate(0, 0), new Coordinate(20, 30), 21, 31, 9L).generate();
+        BidirectionalAStarSolver solver = new BidirectionalAStarSolver();
+        List<RecordedEvent> events = JfrRecorder.record("maze.MazeSolved",
+            () -> solver.solve(maze, maze.start(), maze.end()));
+
+        Assertions.assertEquals(1, events.size());
+        RecordedEvent event = events.getFirst();
+        SearchStats stats = solver.stats();
+        Assertions.assertEquals(21, event.getInt("height"));
+        Assertions.assertEquals(31, event.getInt("width"));
+        Assertions.assertEquals("BidirectionalAStarSolver", event.getString("algorithm"));
+        Assertions.assertEquals(stats.expandedNodes(), event.getLong("nodesExpanded"));
+        Assertions.assertEquals(stats.relaxations(), event.getLong("relaxations"));
+        Assertions.assertEquals(stats.peakOpenNodes(), event.getInt("peakOpenNodes"));
+        Assertions.assertEquals(stats.pathLength(), event.getInt("pathLength"));
+        Assertions.assertTrue(stats.pathLength() > 0);
+    }
+}
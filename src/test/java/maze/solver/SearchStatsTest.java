@@ -0,0 +1,70 @@
+package maze.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import maze.model.Cell;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SearchStatsTest {
+    private static Maze corridor(Cell.Type... types) {
+        Cell[][] grid = new Cell[1][types.length];
+        for (int col = 0; col < types.length; col++) {
+            grid[0][col] = new Cell(0, col, types[col]);
+        }
+        return new Maze(1, types.length, grid, new Coordinate(0, 0), new Coordinate(0, types.length - 1));
+    }
+
+    @Test
+    public void testCountsCorridorSearch() {
+        Maze maze = corridor(Cell.Type.PASSAGE, Cell.Type.ROAD, Cell.Type.PASSAGE, Cell.Type.DESERT, Cell.Type.PASSAGE);
+        DijkstraSolver solver = new DijkstraSolver();
+        List<SearchStats> notified = new ArrayList<>();
+        solver.listener(notified::add);
+
+        List<Coordinate> path = solver.solve(maze, maze.start(), maze.end());
+
+        SearchStats stats = solver.stats();
+        Assertions.assertEquals(5, path.size());
+        Assertions.assertEquals(4L, stats.expandedNodes());
+        Assertions.assertEquals(4L, stats.relaxations());
+        Assertions.assertEquals(1, stats.peakOpenNodes());
+        Assertions.assertEquals(5, stats.pathLength());
+        Assertions.assertTrue(stats.elapsedNanos() >= 0);
+        Assertions.assertEquals(List.of(stats), notified);
+    }
+
+    @Test
+    public void testResetsBetweenSearches() {
+        Maze reachable = corridor(Cell.Type.PASSAGE, Cell.Type.PASSAGE, Cell.Type.PASSAGE);
+        Maze blocked = corridor(Cell.Type.PASSAGE, Cell.Type.WALL, Cell.Type.PASSAGE);
+        AStarSolver solver = new AStarSolver();
+
+        solver.solve(reachable, reachable.start(), reachable.end());
+        List<Coordinate> path = solver.solve(blocked, blocked.start(), blocked.end());
+
+        Assertions.assertTrue(path.isEmpty());
+        Assertions.assertEquals(1L, solver.stats().expandedNodes());
+        Assertions.assertEquals(0L, solver.stats().relaxations());
+        Assertions.assertEquals(0, solver.stats().pathLength());
+    }
+
+    @Test
+    public void testCountsBothSidesOfBidirectionalSearch() {
+        Maze maze = corridor(Cell.Type.PASSAGE, Cell.Type.PASSAGE, Cell.Type.PASSAGE, Cell.Type.PASSAGE);
+        BidirectionalSolver solver = new BidirectionalSolver();
+        int[] calls = new int[1];
+        solver.listener(stats -> calls[0]++);
+
+        List<Coordinate> path = solver.solve(maze, maze.start(), maze.end());
+
+        SearchStats stats = solver.stats();
+        Assertions.assertEquals(4, stats.pathLength());
+        Assertions.assertEquals(path.size(), stats.pathLength());
+        Assertions.assertTrue(stats.expandedNodes() >= 2);
+        Assertions.assertEquals(2, stats.peakOpenNodes());
+        Assertions.assertEquals(1, calls[0]);
+    }
+}
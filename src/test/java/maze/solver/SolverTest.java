@@ -0,0 +1,246 @@
+package maze.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import maze.generator.MazeGenerator;
+import maze.model.Cell;
+import maze.model.CellGrid;
+import maze.model.Coordinate;
+import maze.model.Maze;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Общие проверки всех алгоритмов поиска пути: известные лабиринты и совпадение стоимости пути
+ * с алгоритмом Дейкстры на случайных лабиринтах с циклами и разными поверхностями.
+ */
+public class SolverTest {
+    private static final int RANDOM_MAZES = 12;
+    private static final int QUERIES_PER_MAZE = 8;
+    private static final int DENSE_LOOP_PERCENT = 30;
+
+    @ParameterizedTest
+    @EnumSource(MazeSolverAlgorithm.class)
+    public void testSolveWithKnownMaze1(MazeSolverAlgorithm algorithm) {
+        Cell[][] testGrid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.PASSAGE), new Cell(0, 2, Cell.Type.PASSAGE),
+                new Cell(0, 3, Cell.Type.ROAD), new Cell(0, 4, Cell.Type.PASSAGE)},
+            {new Cell(1, 0, Cell.Type.PASSAGE), new Cell(1, 1, Cell.Type.WALL), new Cell(1, 2, Cell.Type.WALL),
+                new Cell(1, 3, Cell.Type.PASSAGE), new Cell(1, 4, Cell.Type.WALL)},
+            {new Cell(2, 0, Cell.Type.PASSAGE), new Cell(2, 1, Cell.Type.WALL), new Cell(2, 2, Cell.Type.PASSAGE),
+                new Cell(2, 3, Cell.Type.DESERT), new Cell(2, 4, Cell.Type.PASSAGE)},
+            {new Cell(3, 0, Cell.Type.ROAD), new Cell(3, 1, Cell.Type.ROAD), new Cell(3, 2, Cell.Type.WALL),
+                new Cell(3, 3, Cell.Type.PASSAGE), new Cell(3, 4, Cell.Type.ROAD)},
+            {new Cell(4, 0, Cell.Type.DESERT), new Cell(4, 1, Cell.Type.PASSAGE), new Cell(4, 2, Cell.Type.PASSAGE),
+                new Cell(4, 3, Cell.Type.PASSAGE), new Cell(4, 4, Cell.Type.PASSAGE)}
+        };
+        List<Coordinate> expectedPath = Arrays.asList(new Coordinate(0, 0), new Coordinate(1, 0), new Coordinate(2, 0),
+            new Coordinate(3, 0), new Coordinate(3, 1), new Coordinate(4, 1), new Coordinate(4, 2),
+            new Coordinate(4, 3), new Coordinate(4, 4));
+
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(4, 4);
+        Maze maze = new Maze(5, 5, testGrid, start, end);
+        Solver solver = algorithm.create();
+
+        List<Coordinate> solverPath = solver.solve(maze, start, end);
+
+        checkPath(expectedPath, solverPath);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeSolverAlgorithm.class)
+    public void testSolveWithKnownMaze2(MazeSolverAlgorithm algorithm) {
+        Cell[][] testGrid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.PASSAGE), new Cell(0, 2, Cell.Type.PASSAGE),
+                new Cell(0, 3, Cell.Type.ROAD), new Cell(0, 4, Cell.Type.PASSAGE)},
+            {new Cell(1, 0, Cell.Type.PASSAGE), new Cell(1, 1, Cell.Type.WALL), new Cell(1, 2, Cell.Type.WALL),
+                new Cell(1, 3, Cell.Type.PASSAGE), new Cell(1, 4, Cell.Type.WALL)},
+            {new Cell(2, 0, Cell.Type.PASSAGE), new Cell(2, 1, Cell.Type.WALL), new Cell(2, 2, Cell.Type.PASSAGE),
+                new Cell(2, 3, Cell.Type.DESERT), new Cell(2, 4, Cell.Type.PASSAGE)},
+            {new Cell(3, 0, Cell.Type.ROAD), new Cell(3, 1, Cell.Type.DESERT), new Cell(3, 2, Cell.Type.WALL),
+                new Cell(3, 3, Cell.Type.DESERT), new Cell(3, 4, Cell.Type.ROAD)},
+            {new Cell(4, 0, Cell.Type.DESERT), new Cell(4, 1, Cell.Type.PASSAGE), new Cell(4, 2, Cell.Type.PASSAGE),
+                new Cell(4, 3, Cell.Type.PASSAGE), new Cell(4, 4, Cell.Type.PASSAGE)}
+        };
+        List<Coordinate> expectedPath = Arrays.asList(
+            new Coordinate(0, 0), new Coordinate(0, 1), new Coordinate(0, 2),
+            new Coordinate(0, 3), new Coordinate(1, 3), new Coordinate(2, 3),
+            new Coordinate(2, 4), new Coordinate(3, 4), new Coordinate(4, 4));
+
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(4, 4);
+        Maze maze = new Maze(5, 5, testGrid, start, end);
+        Solver solver = algorithm.create();
+
+        List<Coordinate> solverPath = solver.solve(maze, start, end);
+
+        checkPath(expectedPath, solverPath);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeSolverAlgorithm.class)
+    public void testSolveWithNoPath(MazeSolverAlgorithm algorithm) {
+        Cell[][] testGrid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.PASSAGE), new Cell(0, 2, Cell.Type.PASSAGE),},
+            {new Cell(1, 0, Cell.Type.PASSAGE), new Cell(1, 1, Cell.Type.PASSAGE), new Cell(1, 2, Cell.Type.WALL)},
+            {new Cell(2, 0, Cell.Type.PASSAGE), new Cell(2, 1, Cell.Type.WALL), new Cell(2, 2, Cell.Type.PASSAGE)}
+        };
+        List<Coordinate> expectedPath = new ArrayList<>();
+
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(2, 2);
+        Maze maze = new Maze(3, 3, testGrid, start, end);
+        Solver solver = algorithm.create();
+
+        List<Coordinate> solverPath = solver.solve(maze, start, end);
+
+        checkPath(expectedPath, solverPath);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeSolverAlgorithm.class)
+    public void testSolverIsReusableBetweenMazes(MazeSolverAlgorithm algorithm) {
+        Cell[][] openGrid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.ROAD), new Cell(0, 2, Cell.Type.PASSAGE)},
+            {new Cell(1, 0, Cell.Type.DESERT), new Cell(1, 1, Cell.Type.WALL), new Cell(1, 2, Cell.Type.PASSAGE)},
+            {new Cell(2, 0, Cell.Type.DESERT), new Cell(2, 1, Cell.Type.DESERT), new Cell(2, 2, Cell.Type.PASSAGE)}
+        };
+        Cell[][] blockedGrid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.WALL)},
+            {new Cell(1, 0, Cell.Type.WALL), new Cell(1, 1, Cell.Type.PASSAGE)}
+        };
+        List<Coordinate> expectedPath = Arrays.asList(new Coordinate(0, 0), new Coordinate(0, 1),
+            new Coordinate(0, 2), new Coordinate(1, 2), new Coordinate(2, 2));
+
+        Coordinate start = new Coordinate(0, 0);
+        Solver solver = algorithm.create();
+
+        List<Coordinate> firstPath = solver.solve(new Maze(3, 3, openGrid, start, new Coordinate(2, 2)),
+            start, new Coordinate(2, 2));
+        List<Coordinate> blockedPath = solver.solve(new Maze(2, 2, blockedGrid, start, new Coordinate(1, 1)),
+            start, new Coordinate(1, 1));
+        List<Coordinate> secondPath = solver.solve(new Maze(3, 3, openGrid, start, new Coordinate(2, 2)),
+            start, new Coordinate(2, 2));
+
+        checkPath(expectedPath, firstPath);
+        checkPath(new ArrayList<>(), blockedPath);
+        checkPath(expectedPath, secondPath);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeSolverAlgorithm.class)
+    public void testSearchStopsWhenThreadIsInterrupted(MazeSolverAlgorithm algorithm) {
+        Coordinate end = new Coordinate(200, 200);
+        Maze maze = MazeGenerator.PRIMS.create(new Coordinate(0, 0), end, 201, 201, 3L).generate();
+        Solver solver = algorithm.create();
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(CancellationException.class, () -> solver.solve(maze, maze.start(), end));
+        } finally {
+            Thread.interrupted();
+        }
+        List<Coordinate> expected = algorithm.create().solve(maze, maze.start(), end);
+        Assertions.assertEquals(expected, solver.solve(maze, maze.start(), end));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeSolverAlgorithm.class)
+    public void testPathCostMatchesDijkstraOnRandomMazes(MazeSolverAlgorithm algorithm) {
+        MazeGenerator[] generators = {MazeGenerator.PRIMS, MazeGenerator.RECURSIVE_BACKTRACKER, MazeGenerator.KRUSKAL};
+        Solver solver = algorithm.create();
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int mazeIndex = 0; mazeIndex < RANDOM_MAZES; mazeIndex++) {
+            int height = 21 + 2 * random.nextInt(10);
+            int width = 21 + 2 * random.nextInt(10);
+            MazeGenerator generator = generators[mazeIndex % generators.length];
+            Maze maze = generator.create(new Coordinate(0, 0), new Coordinate(height - 1, width - 1), height, width,
+                random.nextLong()).generate();
+
+            assertSameCostAsDijkstra(solver, maze, random, generator + " " + height + "x" + width);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = MazeSolverAlgorithm.class, names = {"BIDIRECTIONAL_DIJKSTRA", "BIDIRECTIONAL_ASTAR"})
+    public void testBidirectionalPathCostOnDenselyLoopedMazes(MazeSolverAlgorithm algorithm) {
+        Solver solver = algorithm.create();
+        SplittableRandom random = new SplittableRandom(11);
+
+        for (int mazeIndex = 0; mazeIndex < RANDOM_MAZES; mazeIndex++) {
+            int size = 25 + 2 * random.nextInt(8);
+            Maze maze = MazeGenerator.PRIMS.create(new Coordinate(0, 0), new Coordinate(size - 1, size - 1), size, size,
+                random.nextLong()).generate();
+            CellGrid grid = maze.grid();
+            Cell.Type[] surfaces = {Cell.Type.PASSAGE, Cell.Type.ROAD, Cell.Type.DESERT};
+            for (int index = 0; index < grid.size(); index++) {
+                if (grid.isWall(index) && random.nextInt(100) < DENSE_LOOP_PERCENT) {
+                    grid.set(index, surfaces[random.nextInt(surfaces.length)]);
+                }
+            }
+
+            assertSameCostAsDijkstra(solver, maze, random, "PRIMS+loops " + size + "x" + size);
+        }
+    }
+
+    private static void assertSameCostAsDijkstra(Solver solver, Maze maze, SplittableRandom random, String name) {
+        Solver reference = new DijkstraSolver();
+        for (int query = 0; query < QUERIES_PER_MAZE; query++) {
+            Coordinate start = randomPassage(maze.grid(), random);
+            Coordinate end = randomPassage(maze.grid(), random);
+            List<Coordinate> expected = reference.solve(maze, start, end);
+            List<Coordinate> actual = solver.solve(maze, start, end);
+
+            String context = name + " " + start + " -> " + end;
+            Assertions.assertEquals(expected.isEmpty(), actual.isEmpty(), context);
+            if (!expected.isEmpty()) {
+                Assertions.assertEquals(start, actual.getFirst(), context);
+                Assertions.assertEquals(end, actual.getLast(), context);
+                Assertions.assertEquals(pathCost(maze.grid(), expected), pathCost(maze.grid(), actual), context);
+            }
+        }
+    }
+
+    private static Coordinate randomPassage(CellGrid grid, SplittableRandom random) {
+        while (true) {
+            int row = random.nextInt(grid.height());
+            int col = random.nextInt(grid.width());
+            if (!grid.isWall(grid.index(row, col))) {
+                return new Coordinate(row, col);
+            }
+        }
+    }
+
+    /**
+     * Стоимость пути: сумма стоимостей клеток, в которые он входит. Проверяет, что соседние клетки пути
+     * смежны и что путь не проходит через стены.
+     */
+    private static long pathCost(CellGrid grid, List<Coordinate> path) {
+        long cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            Coordinate previous = path.get(i - 1);
+            Coordinate current = path.get(i);
+            int distance = Math.abs(previous.row() - current.row()) + Math.abs(previous.col() - current.col());
+            Assertions.assertEquals(1, distance, "Клетки пути должны быть смежными");
+            Assertions.assertFalse(grid.isWall(grid.index(current)), "Путь не должен проходить через стену");
+            cost += BaseSolver.costOf(grid.type(grid.index(current)));
+        }
+        return cost;
+    }
+
+    private void checkPath(List<Coordinate> expectedPath, List<Coordinate> actualPath) {
+        if (!expectedPath.isEmpty()) {
+            Assertions.assertFalse(actualPath.isEmpty(), "Путь не должен быть пустым");
+        } else {
+            Assertions.assertTrue(actualPath.isEmpty(), "Путь должен быть пустым");
+        }
+        for (int i = 0; i < expectedPath.size(); i++) {
+            Assertions.assertEquals(expectedPath.get(i), actualPath.get(i), "Координаты на пути должны совпадать");
+        }
+    }
+}